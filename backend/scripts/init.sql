@@ -188,6 +188,7 @@ CREATE TABLE `post_statistics` (
   `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
   PRIMARY KEY (`post_id`),
   KEY `idx_stats_heat` (`heat_score`, `post_id`),
+  KEY `idx_stats_updated` (`updated_at`, `post_id`),
   CONSTRAINT `fk_stats_post` FOREIGN KEY (`post_id`) REFERENCES `posts` (`id`) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 ROW_FORMAT=DYNAMIC COMMENT='Post statistics cache';
 
@@ -263,6 +264,18 @@ CREATE TABLE `post_bookmark` (
   KEY `idx_bm_user` (`user_id`, `created_at`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='Post bookmarks';
 
+-- Follow timeline inboxes (fan-out on write; posts.created_at never changes, so the PK also dedupes)
+DROP TABLE IF EXISTS `timeline_inbox`;
+CREATE TABLE `timeline_inbox` (
+  `user_id` BIGINT(20) NOT NULL COMMENT 'Follower who owns the inbox',
+  `created_at` DATETIME NOT NULL COMMENT 'Copy of posts.created_at',
+  `post_id` BIGINT(20) NOT NULL COMMENT 'Reference to posts.id',
+  `author_id` BIGINT(20) NOT NULL COMMENT 'Reference to posts.author_id',
+  PRIMARY KEY (`user_id`, `created_at`, `post_id`),
+  KEY `idx_inbox_post` (`post_id`),
+  KEY `idx_inbox_created` (`created_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='Follow feed inboxes';
+
 -- ============================================
 -- Tag System
 -- ============================================
@@ -401,6 +414,21 @@ CREATE TABLE `step_count` (
   KEY `idx_sync_sequence` (`user_id`, `sync_sequence`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='Step count tracking with idempotency';
 
+-- Per-day health rollup, maintained by the meal/exercise/step/water/weight write paths
+DROP TABLE IF EXISTS `user_daily_health`;
+CREATE TABLE `user_daily_health` (
+  `user_id` BIGINT(20) NOT NULL COMMENT 'User ID',
+  `day` DATE NOT NULL COMMENT 'Calendar day',
+  `kcal_in` INT(11) NOT NULL DEFAULT 0 COMMENT 'Calories eaten (meal_log)',
+  `kcal_exercise` INT(11) NOT NULL DEFAULT 0 COMMENT 'Calories burned by exercise (exercise_log)',
+  `kcal_steps` INT(11) NOT NULL DEFAULT 0 COMMENT 'Calories burned by walking (step_count)',
+  `steps` INT(11) NOT NULL DEFAULT 0 COMMENT 'Step count (step_count)',
+  `water_ml` INT(11) NOT NULL DEFAULT 0 COMMENT 'Water intake in milliliters (water_intake)',
+  `weight_kg` DECIMAL(5,2) DEFAULT NULL COMMENT 'Weight recorded that day (user_weight_log)',
+  `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  PRIMARY KEY (`user_id`, `day`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='Daily health rollup per user';
+
 -- ============================================
 -- Recommendation System Tables
 -- ============================================
@@ -429,6 +457,19 @@ CREATE TABLE `event_log` (
   KEY `idx_session_id` (`session_id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='Event log for user behavior tracking';
 
+-- ============================================
+-- Background Job Tables
+-- ============================================
+
+-- Progress markers of incremental jobs (e.g. heat scoring)
+DROP TABLE IF EXISTS `job_watermark`;
+CREATE TABLE `job_watermark` (
+  `job_name` VARCHAR(64) NOT NULL COMMENT 'Job identifier',
+  `state` VARCHAR(1024) NOT NULL COMMENT 'Job cursor state (JSON)',
+  `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  PRIMARY KEY (`job_name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='Incremental job watermarks';
+
 
 SET FOREIGN_KEY_CHECKS = 1;
 
@@ -0,0 +1,131 @@
+#!/bin/bash
+
+# ============================================
+# Virtual-Thread Load Test for Aura
+# ============================================
+# Starts the backend jar twice - once on the platform-thread Tomcat pool and
+# once with spring.threads.virtual.enabled=true - drives the same read
+# endpoints with `hey` at each concurrency level, and prints a throughput /
+# latency comparison. Requires a running MySQL with data (see reset_db.sh),
+# a built jar (mvn -DskipTests package) and hey (https://github.com/rakyll/hey).
+#
+# Usage: ./loadtest_virtual_threads.sh --token <jwt> [options]
+# Options:
+#   -h, --help                Show this help message
+#   --token <jwt>             Access token sent as "Authorization: Bearer <jwt>" (required)
+#   --jar <path>              Backend jar (default: ../target/demo2-1.0-SNAPSHOT.jar)
+#   --port <port>             Port the backend listens on (default: 8080)
+#   --concurrency <list>      Comma-separated concurrency levels (default: 50,200,800)
+#   --duration <time>         Duration per run, hey syntax (default: 30s)
+#   --paths <list>            Comma-separated request paths
+#                             (default: /api/v1/post?limit=20,/api/v1/post/hot?limit=20,/api/v1/post/feed/followings?limit=20)
+#
+# Example:
+#   ./loadtest_virtual_threads.sh --token eyJhbGciOi... --concurrency 100,400 --duration 60s
+#
+# While the virtual-thread run is active, pinning shows up as
+# "Virtual thread pinned" warnings in the backend log and as the
+# aura.vthreads.pinned timer at /actuator/metrics/aura.vthreads.pinned.
+# ============================================
+
+set -e  # Exit on error
+
+# Colors for output
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+BLUE='\033[0;34m'
+NC='\033[0m' # No Color
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+JAR="$SCRIPT_DIR/../target/demo2-1.0-SNAPSHOT.jar"
+PORT=8080
+TOKEN=""
+CONCURRENCY="50,200,800"
+DURATION="30s"
+PATHS="/api/v1/post?limit=20,/api/v1/post/hot?limit=20,/api/v1/post/feed/followings?limit=20"
+RESULTS="$(mktemp -d)"
+
+show_help() {
+    sed -n '3,29p' "$0" | sed 's/^# \{0,1\}//'
+}
+
+while [[ $# -gt 0 ]]; do
+    case $1 in
+        -h|--help) show_help; exit 0 ;;
+        --token) TOKEN="$2"; shift 2 ;;
+        --jar) JAR="$2"; shift 2 ;;
+        --port) PORT="$2"; shift 2 ;;
+        --concurrency) CONCURRENCY="$2"; shift 2 ;;
+        --duration) DURATION="$2"; shift 2 ;;
+        --paths) PATHS="$2"; shift 2 ;;
+        *) echo -e "${RED}Unknown option: $1${NC}"; show_help; exit 1 ;;
+    esac
+done
+
+[[ -z "$TOKEN" ]] && { echo -e "${RED}--token is required${NC}"; exit 1; }
+[[ -f "$JAR" ]] || { echo -e "${RED}Jar not found: $JAR (run mvn -DskipTests package)${NC}"; exit 1; }
+command -v hey >/dev/null || { echo -e "${RED}hey is not installed${NC}"; exit 1; }
+
+BASE_URL="http://localhost:$PORT"
+APP_PID=""
+
+stop_app() {
+    if [[ -n "$APP_PID" ]] && kill -0 "$APP_PID" 2>/dev/null; then
+        kill "$APP_PID"
+        wait "$APP_PID" 2>/dev/null || true
+    fi
+    APP_PID=""
+}
+trap stop_app EXIT
+
+start_app() {
+    local mode=$1
+    echo -e "${BLUE}Starting backend ($mode threads)...${NC}"
+    VIRTUAL_THREADS=$([[ "$mode" == "virtual" ]] && echo true || echo false) \
+        java -jar "$JAR" --server.port="$PORT" > "$RESULTS/app-$mode.log" 2>&1 &
+    APP_PID=$!
+    for _ in $(seq 1 60); do
+        if curl -sf "$BASE_URL/actuator/health" -H "Authorization: Bearer $TOKEN" >/dev/null; then
+            return 0
+        fi
+        sleep 1
+    done
+    echo -e "${RED}Backend did not become healthy, see $RESULTS/app-$mode.log${NC}"
+    exit 1
+}
+
+run_mode() {
+    local mode=$1
+    start_app "$mode"
+
+    # Warm up JIT, caches and the connection pool
+    IFS=',' read -ra path_list <<< "$PATHS"
+    for path in "${path_list[@]}"; do
+        hey -z 10s -c 50 -H "Authorization: Bearer $TOKEN" "$BASE_URL$path" >/dev/null
+    done
+
+    IFS=',' read -ra levels <<< "$CONCURRENCY"
+    for c in "${levels[@]}"; do
+        for path in "${path_list[@]}"; do
+            local out="$RESULTS/$mode-$c-$(echo "$path" | tr '/?=&' '____').txt"
+            hey -z "$DURATION" -c "$c" -H "Authorization: Bearer $TOKEN" "$BASE_URL$path" > "$out"
+            local rps p99 errors
+            rps=$(awk '/Requests\/sec/ {print $2}' "$out")
+            p99=$(awk '/99% in/ {print $3}' "$out")
+            errors=$(awk '/Status code distribution/,0' "$out" | grep -v '\[200\]' | awk '/\[[0-9]+\]/ {s+=$2} END {print s+0}')
+            printf "%-9s %6s  %-45s %10s rps  p99 %8ss  non-200 %s\n" "$mode" "$c" "$path" "$rps" "$p99" "$errors" \
+                | tee -a "$RESULTS/summary.txt"
+        done
+    done
+
+    stop_app
+}
+
+echo -e "${YELLOW}Results directory: $RESULTS${NC}"
+run_mode platform
+run_mode virtual
+
+echo ""
+echo -e "${GREEN}Summary (same rows per mode; compare rps and p99 at equal concurrency):${NC}"
+sort -k3,3 -k2,2n -k1,1 "$RESULTS/summary.txt"
@@ -0,0 +1,36 @@
+package com.mobile.aura.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Activity level recalculation configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "aura.activity")
+public class ActivityLevelProperties {
+
+    /**
+     * Minimum time (ms) between two recalculations of the same user; writes in between
+     * only mark the user dirty
+     */
+    private long debounceMs = 300_000;
+
+    /**
+     * Maximum number of due users handed to the activity pool per drain run
+     */
+    private int maxUsersPerDrain = 1000;
+
+    /**
+     * Maximum number of users whose rolling 30-day window is kept in memory
+     */
+    private int windowCacheSize = 100_000;
+
+    /**
+     * Age (ms) after which a user's window is rebuilt from a full 30-day scan, which also
+     * picks up writes made through other instances
+     */
+    private long windowTtlMs = 21_600_000;
+}
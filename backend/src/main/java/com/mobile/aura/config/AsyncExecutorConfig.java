@@ -0,0 +1,82 @@
+package com.mobile.aura.config;
+
+import com.mobile.aura.support.BoundedTaskExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Named bounded executors, one per kind of background work.
+ * Each pool has its own size, queue and overflow policy (aura.async.pools.*), so a burst
+ * in one task type cannot starve the others or grow an unbounded queue. The pools use
+ * virtual threads when spring.threads.virtual.enabled is set; the pool size still bounds
+ * how many tasks of a type run at once.
+ * <p>
+ * Use them by name with {@code @Async(AsyncExecutorConfig.ACTIVITY)} or by injecting the
+ * bean with {@code @Qualifier}.
+ */
+@Configuration
+@EnableAsync
+@RequiredArgsConstructor
+public class AsyncExecutorConfig {
+
+    /** Activity level recalculation after step/exercise writes */
+    public static final String ACTIVITY = "activityExecutor";
+    /** User/content feature snapshot creation */
+    public static final String FEATURES = "featuresExecutor";
+    /** Timeline fan-out, retraction and follow backfill */
+    public static final String TIMELINE = "timelineExecutor";
+    /** Background refresh of stale weather readings */
+    public static final String WEATHER = "weatherExecutor";
+    /** BCrypt hashing for login, registration and password changes */
+    public static final String PASSWORD = "passwordExecutor";
+
+    private final AsyncExecutorProperties props;
+    private final MeterRegistry registry;
+    private final ObjectProvider<BoundedTaskExecutor> executors;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Bean(name = ACTIVITY, destroyMethod = "shutdown")
+    public BoundedTaskExecutor activityExecutor() {
+        return create("activity");
+    }
+
+    @Bean(name = FEATURES, destroyMethod = "shutdown")
+    public BoundedTaskExecutor featuresExecutor() {
+        return create("features");
+    }
+
+    @Bean(name = TIMELINE, destroyMethod = "shutdown")
+    public BoundedTaskExecutor timelineExecutor() {
+        return create("timeline");
+    }
+
+    @Bean(name = WEATHER, destroyMethod = "shutdown")
+    public BoundedTaskExecutor weatherExecutor() {
+        return create("weather");
+    }
+
+    @Bean(name = PASSWORD, destroyMethod = "shutdown")
+    public BoundedTaskExecutor passwordExecutor() {
+        return create("password");
+    }
+
+    /**
+     * Periodically move spilled tasks back into their pools.
+     */
+    @Scheduled(fixedDelayString = "${aura.async.spill-drain-interval-ms:1000}")
+    public void resubmitSpilled() {
+        executors.orderedStream().forEach(BoundedTaskExecutor::resubmitSpilled);
+    }
+
+    private BoundedTaskExecutor create(String name) {
+        return new BoundedTaskExecutor(name, props.pool(name), virtualThreads, registry);
+    }
+}
@@ -0,0 +1,52 @@
+package com.mobile.aura.config;
+
+import com.mobile.aura.constant.OverflowPolicy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Named bounded async executor configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "aura.async")
+public class AsyncExecutorProperties {
+
+    /**
+     * Per task type pool settings, keyed by pool name (activity, features, timeline, weather, password)
+     */
+    private Map<String, Pool> pools = new LinkedHashMap<>();
+
+    /**
+     * Settings of a pool, falling back to defaults for pools that are not configured.
+     *
+     * @param name pool name
+     * @return pool settings
+     */
+    public Pool pool(String name) {
+        return pools.getOrDefault(name, new Pool());
+    }
+
+    @Data
+    public static class Pool {
+
+        /**
+         * Worker threads
+         */
+        private int threads = 2;
+
+        /**
+         * Bounded queue length in front of the workers
+         */
+        private int queueCapacity = 1000;
+
+        /**
+         * What happens to a task submitted while the queue is full
+         */
+        private OverflowPolicy overflow = OverflowPolicy.CALLER_RUNS;
+    }
+}
@@ -0,0 +1,44 @@
+package com.mobile.aura.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * user_daily_health rollup backfill and consistency check configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "aura.daily-health")
+public class DailyHealthProperties {
+
+    /**
+     * Whether the scheduled backfill and consistency check run
+     */
+    private boolean enabled = true;
+
+    /**
+     * Users whose rollup rows are recomputed per statement, by the backfill and the check
+     */
+    private int batchUsers = 200;
+
+    /**
+     * Upper bound on backfill statements per run, so existing history is worked off over several runs
+     */
+    private int backfillBatchesPerRun = 10;
+
+    /**
+     * Trailing days compared against the source tables by the consistency check
+     */
+    private int checkDays = 3;
+
+    /**
+     * Upper bound on user batches compared per check run; the check resumes where it stopped
+     */
+    private int checkBatchesPerRun = 50;
+
+    /**
+     * Maximum drifted days repaired per user batch
+     */
+    private int maxRepairsPerBatch = 500;
+}
@@ -0,0 +1,54 @@
+package com.mobile.aura.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Event log ingestion pipeline configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "aura.events")
+public class EventIngestionProperties {
+
+    /**
+     * Maximum number of events buffered in memory
+     */
+    private int capacity = 10_000;
+
+    /**
+     * Maximum number of rows per multi-row INSERT
+     */
+    private int batchSize = 200;
+
+    /**
+     * Maximum time (ms) an event waits in the buffer before its batch is written
+     */
+    private long flushIntervalMs = 500;
+
+    /**
+     * Time (ms) a producer waits for buffer space before the event is dropped
+     */
+    private long offerTimeoutMs = 5;
+
+    /**
+     * Whether batches are spilled to local files while MySQL is slow or failing
+     */
+    private boolean spillEnabled = true;
+
+    /**
+     * Directory holding spilled batches (one JSON-lines file per batch)
+     */
+    private String spillDir = "data/event-spill";
+
+    /**
+     * Batch insert latency (ms) above which the pipeline switches to spill mode
+     */
+    private long slowThresholdMs = 1000;
+
+    /**
+     * How long (ms) the pipeline keeps spilling after a slow or failed insert
+     */
+    private long degradedCooldownMs = 30_000;
+}
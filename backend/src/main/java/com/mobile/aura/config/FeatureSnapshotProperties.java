@@ -0,0 +1,29 @@
+package com.mobile.aura.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recommendation feature snapshot configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "aura.features")
+public class FeatureSnapshotProperties {
+
+    /**
+     * How long (ms) the latest snapshot is reused without re-reading its source rows
+     */
+    private long snapshotTtlMs = 600_000;
+
+    /**
+     * Maximum number of users/posts whose latest snapshot reference is kept in memory
+     */
+    private int cacheSize = 100_000;
+
+    /**
+     * Upper bound (ms) an exposure batch waits for the user snapshot built on the features pool
+     */
+    private long userSnapshotTimeoutMs = 5_000;
+}
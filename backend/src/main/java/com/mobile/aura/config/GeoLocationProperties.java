@@ -0,0 +1,44 @@
+package com.mobile.aura.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * IP geolocation configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "aura.geo")
+public class GeoLocationProperties {
+
+    /**
+     * ip-api.com style endpoint; the IP is appended to it
+     */
+    private String baseUrl = "http://ip-api.com/json/";
+
+    /**
+     * HTTP connect timeout (ms)
+     */
+    private int connectTimeoutMs = 500;
+
+    /**
+     * HTTP read timeout (ms)
+     */
+    private int readTimeoutMs = 1500;
+
+    /**
+     * Maximum number of cached network lookups (least recently used are evicted first)
+     */
+    private int cacheSize = 50_000;
+
+    /**
+     * How long (ms) a network lookup is reused for the same /24 (IPv4) or /48 (IPv6) prefix
+     */
+    private long cacheTtlMs = 86_400_000;
+
+    /**
+     * Optional CIDR CSV ({@code cidr,countryCode,city}) consulted before the network; empty disables it
+     */
+    private String offlineDbPath = "";
+}
@@ -0,0 +1,61 @@
+package com.mobile.aura.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Incremental heat-score computation configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "aura.heat")
+public class HeatScoreProperties {
+
+    /**
+     * Whether the scheduled scorer runs
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of changed rows read per scan and posts scored per UPDATE
+     */
+    private int batchSize = 500;
+
+    /**
+     * Upper bound on scans per run, so a large backlog is worked off over several runs
+     */
+    private int maxBatchesPerRun = 20;
+
+    /**
+     * Rows newer than this (ms) are left for the next run, giving in-flight transactions time to commit
+     */
+    private long commitLagMs = 5_000;
+
+    /**
+     * Time a post needs to be younger to match twice its engagement
+     */
+    private double halfLifeHours = 12;
+
+    /**
+     * Only events from this many trailing days count towards heat
+     */
+    private int eventWindowDays = 7;
+
+    private double likeWeight = 1.0;
+    private double commentWeight = 2.0;
+    private double bookmarkWeight = 3.0;
+
+    /**
+     * Weight per event_log type. Likes, comments and favorites are already
+     * counted through post_statistics and are therefore not listed here.
+     */
+    private Map<String, Double> eventWeights = new LinkedHashMap<>(Map.of(
+            "expose", 0.01,
+            "click", 0.2,
+            "share", 2.0
+    ));
+}
@@ -0,0 +1,24 @@
+package com.mobile.aura.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hot feed ranking configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "aura.hot")
+public class HotFeedProperties {
+
+    /**
+     * Number of posts kept in the in-memory ranking
+     */
+    private int topK = 1000;
+
+    /**
+     * Number of recent ranking snapshots kept so paging clients stay on the version they started with
+     */
+    private int retainedVersions = 4;
+}
@@ -0,0 +1,32 @@
+package com.mobile.aura.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Password hashing configuration properties.
+ * Pool size and queue length are set under aura.async.pools.password.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "aura.password")
+public class PasswordHashingProperties {
+
+    /**
+     * BCrypt work factor (log2 rounds) for new hashes; weaker stored hashes are upgraded on login
+     */
+    private int bcryptStrength = 10;
+
+    /**
+     * Tasks that waited longer than this (ms) in the queue are failed with a retryable error
+     * instead of hashed, since their client has likely given up
+     */
+    private long maxQueueWaitMs = 1000;
+
+    /**
+     * Upper bound (ms) a caller waits for its hash, queue wait included; a hash dropped from
+     * the queue or not finished by then fails with a retryable error
+     */
+    private long hashTimeoutMs = 5000;
+}
@@ -0,0 +1,34 @@
+package com.mobile.aura.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Post detail cache configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "aura.post-cache")
+public class PostCacheProperties {
+
+    /**
+     * Upper bound of the detail cache, in estimated bytes
+     */
+    private long detailMaxWeightBytes = 64L * 1024 * 1024;
+
+    /**
+     * Safety-net expiry of detail entries; edits on other instances are only seen after this
+     */
+    private long detailTtlMs = 600000;
+
+    /**
+     * Maximum number of cached statistics rows
+     */
+    private long statsMaxSize = 100000;
+
+    /**
+     * Expiry of cached statistics rows
+     */
+    private long statsTtlMs = 2000;
+}
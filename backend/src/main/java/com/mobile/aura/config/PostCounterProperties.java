@@ -0,0 +1,19 @@
+package com.mobile.aura.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Write-behind post/comment counter configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "aura.counters")
+public class PostCounterProperties {
+
+    /**
+     * Delay (ms) between two flushes of buffered counter deltas
+     */
+    private long flushIntervalMs = 1000;
+}
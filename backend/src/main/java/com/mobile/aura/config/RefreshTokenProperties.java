@@ -0,0 +1,24 @@
+package com.mobile.aura.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refresh token configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "aura.auth.refresh")
+public class RefreshTokenProperties {
+
+    /**
+     * How long (ms) an unknown, expired or already rotated token hash is rejected without a query
+     */
+    private long negativeTtlMs = 60_000;
+
+    /**
+     * Maximum number of remembered invalid hashes
+     */
+    private int negativeCacheSize = 100_000;
+}
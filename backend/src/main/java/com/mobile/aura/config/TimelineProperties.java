@@ -0,0 +1,59 @@
+package com.mobile.aura.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Follow timeline (fan-out on write) configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "aura.timeline")
+public class TimelineProperties {
+
+    /**
+     * Authors with at least this many fans are not fanned out on write; followers pull their posts at read time
+     */
+    private int fanoutThreshold = 10000;
+
+    /**
+     * Followers read and inbox rows inserted per statement during fan-out
+     */
+    private int fanoutBatchSize = 500;
+
+    /**
+     * Inbox rows older than this are purged, which bounds every inbox
+     */
+    private int retentionDays = 30;
+
+    /**
+     * Recent posts of a newly followed author copied into the follower's inbox
+     */
+    private int backfillPosts = 20;
+
+    /**
+     * Maximum pull-mode authors merged into one follow feed read
+     */
+    private int maxPullAuthors = 200;
+
+    /**
+     * How long a viewer's pull-mode author list is cached
+     */
+    private long pullAuthorsTtlMs = 60000;
+
+    /**
+     * Whether the scheduled one-off seeding of inboxes from existing follow relationships runs
+     */
+    private boolean seedEnabled = true;
+
+    /**
+     * Followers whose inboxes are seeded per statement
+     */
+    private int seedBatchUsers = 200;
+
+    /**
+     * Upper bound on seeding statements per run, so existing follows are worked off over several runs
+     */
+    private int seedBatchesPerRun = 10;
+}
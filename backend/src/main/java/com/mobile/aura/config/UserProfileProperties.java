@@ -0,0 +1,24 @@
+package com.mobile.aura.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * User basic info (nickname/avatar) cache configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "aura.user-profile")
+public class UserProfileProperties {
+
+    /**
+     * Maximum number of users whose nickname/avatar is cached
+     */
+    private long basicInfoCacheSize = 100000;
+
+    /**
+     * Expiry of cached basic info; bounds staleness after edits made on other instances
+     */
+    private long basicInfoTtlMs = 600000;
+}
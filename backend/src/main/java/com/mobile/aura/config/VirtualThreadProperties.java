@@ -0,0 +1,29 @@
+package com.mobile.aura.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Virtual-thread execution mode diagnostics (the mode itself is switched by spring.threads.virtual.enabled)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "aura.virtual-threads")
+public class VirtualThreadProperties {
+
+    /**
+     * Stream JFR pinning events into logs and metrics while virtual threads are enabled
+     */
+    private boolean pinningMonitor = true;
+
+    /**
+     * Pinned intervals shorter than this (ms) are ignored
+     */
+    private long pinnedThresholdMs = 20;
+
+    /**
+     * Stack frames logged per pinning event
+     */
+    private int stackDepth = 12;
+}
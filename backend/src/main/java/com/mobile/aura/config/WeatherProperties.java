@@ -0,0 +1,59 @@
+package com.mobile.aura.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Weather lookup configuration properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "aura.weather")
+public class WeatherProperties {
+
+    /**
+     * Forecast endpoint; point it at a local stub server for testing
+     */
+    private String baseUrl = "https://api.open-meteo.com/v1/forecast";
+
+    /**
+     * HTTP connect timeout (ms)
+     */
+    private int connectTimeoutMs = 1000;
+
+    /**
+     * HTTP read timeout (ms)
+     */
+    private int readTimeoutMs = 2000;
+
+    /**
+     * Age (ms) after which a cached value is refreshed in the background on its next read
+     */
+    private long freshTtlMs = 600_000;
+
+    /**
+     * Age (ms) after which a cached value is no longer served, even stale
+     */
+    private long staleTtlMs = 3_600_000;
+
+    /**
+     * Maximum number of cached locations
+     */
+    private int cacheSize = 10_000;
+
+    /**
+     * Decimal places coordinates are rounded to for the cache key (2 is roughly 1 km)
+     */
+    private int coordinatePrecision = 2;
+
+    /**
+     * Consecutive failed fetches that open the circuit breaker
+     */
+    private int breakerFailureThreshold = 5;
+
+    /**
+     * How long (ms) the open breaker rejects fetches before letting one through again
+     */
+    private long breakerOpenMs = 30_000;
+}
@@ -44,6 +44,7 @@ public enum CommonStatusEnum {
     FORBIDDEN(1403, "FORBIDDEN"),
     NOT_FOUND(1404, "NOT FOUND"),
     NOT_IMPLEMENTED(1405, "NOT IMPLEMENTED"),
+    SERVER_BUSY(1406, "SERVER BUSY, PLEASE RETRY"),
 
     // 1500-1599 system notification
     NOTIFICATION_NOT_FOUND(1500, "NOTIFICATION NOT FOUND"),
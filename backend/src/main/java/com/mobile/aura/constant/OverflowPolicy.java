@@ -0,0 +1,15 @@
+package com.mobile.aura.constant;
+
+/**
+ * What a bounded async executor does with a task when its queue is full.
+ */
+public enum OverflowPolicy {
+    /** Run the task on the submitting thread (backpressure on the caller) */
+    CALLER_RUNS,
+    /** Discard the oldest queued task and enqueue the new one */
+    DROP_OLDEST,
+    /** Park the task by key until the queue has room; tasks that cannot be parked run on the caller */
+    SPILL,
+    /** Fail fast: throw TaskRejectedException to the submitter */
+    REJECT
+}
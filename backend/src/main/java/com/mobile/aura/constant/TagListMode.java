@@ -0,0 +1,23 @@
+package com.mobile.aura.constant;
+
+/**
+ * Tag list modes.
+ */
+public final class TagListMode {
+    private TagListMode(){}
+
+    /** Alphabetical listing with substring filter */
+    public static final String BROWSE = "browse";
+    /** Prefix suggestions ranked by number of posts */
+    public static final String AUTOCOMPLETE = "autocomplete";
+
+    /**
+     * Check whether the requested mode is autocomplete.
+     *
+     * @param mode requested mode (nullable, defaults to browse)
+     * @return true for autocomplete
+     */
+    public static boolean isAutocomplete(String mode) {
+        return AUTOCOMPLETE.equalsIgnoreCase(mode);
+    }
+}
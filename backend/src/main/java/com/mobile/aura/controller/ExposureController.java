@@ -1,5 +1,6 @@
 package com.mobile.aura.controller;
 
+import com.mobile.aura.dto.user.ExposureBatchResp;
 import com.mobile.aura.dto.user.ExposureCreateReq;
 import com.mobile.aura.dto.user.ExposureDto;
 import com.mobile.aura.dto.user.ExposureQueryReq;
@@ -24,6 +25,12 @@ public class ExposureController {
         return ResponseResult.success();
     }
 
+    @PostMapping("/batch")
+    public ResponseResult<ExposureBatchResp> createBatch(@RequestAttribute(JwtAuthInterceptor.ATTR_USER_ID) Long userId,
+                                                         @RequestBody List<ExposureCreateReq> reqs){
+        return ResponseResult.success(exposureService.createExposures(userId, reqs == null ? List.of() : reqs));
+    }
+
     @GetMapping
     public ResponseResult<List<ExposureDto>> getExposures(
             @RequestAttribute(JwtAuthInterceptor.ATTR_USER_ID) Long userId,
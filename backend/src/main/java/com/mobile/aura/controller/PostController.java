@@ -159,6 +159,20 @@ public class PostController {
         return ResponseResult.success(postService.listPublic(userId, req.getLimit(), req.getCursor()));
     }
 
+    /**
+     * List the hottest public posts, ranked by heat score.
+     *
+     * @param userId the authenticated user ID
+     * @param req pagination request with limit and cursor
+     * @return paginated response with post cards
+     */
+    @GetMapping("/hot")
+    public ResponseResult<PageResponse<PostCardResp>> hot(
+            @RequestAttribute(ATTR_USER_ID) Long userId,
+            @Valid @ModelAttribute PostListReq req) {
+        return ResponseResult.success(postService.listHot(userId, req.getLimit(), req.getCursor()));
+    }
+
     /**
      * List posts from users that the current user follows.
      *
@@ -42,7 +42,7 @@ public class TagController {
 
     @GetMapping
     public ResponseResult<PageResponse<TagResp>> list(@Valid @ModelAttribute TagListReq req) {
-        return ResponseResult.success(tagService.list(req.getQ(), req.getLimit(), req.getCursor()));
+        return ResponseResult.success(tagService.list(req.getQ(), req.getLimit(), req.getCursor(), req.getMode()));
     }
 
     /**
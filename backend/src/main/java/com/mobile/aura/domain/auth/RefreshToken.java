@@ -4,7 +4,6 @@ import com.baomidou.mybatisplus.annotation.TableId;
 import com.baomidou.mybatisplus.annotation.TableName;
 import com.mobile.aura.constant.CommonStatusEnum;
 import com.mobile.aura.constant.TokenConstants;
-import com.mobile.aura.mapper.RefreshTokenMapper;
 import com.mobile.aura.support.BizException;
 import lombok.Data;
 import java.nio.charset.StandardCharsets;
@@ -47,63 +46,41 @@ public class RefreshToken {
     }
 
     /**
-     * Check if token is expired
+     * Verify a compare-and-swap rotation matched a live token, throw exception otherwise
      */
-    public boolean isExpired() {
-        return this.expiresAt != null && this.expiresAt.isBefore(LocalDateTime.now());
+    public static void ensureRotatedOrThrow(int updatedRows) {
+        if (updatedRows != 1) {
+            throw new BizException(CommonStatusEnum.REFRESH_INVALID);
+        }
     }
 
     /**
-     * Verify token exists and is not expired, throw exception otherwise
+     * Generate a new random raw token (sent to the client; only its hash is stored)
      */
-    public static RefreshToken ensureValidOrThrow(RefreshToken token) {
-        if (token == null || token.isExpired()) {
-            throw new BizException(CommonStatusEnum.REFRESH_INVALID);
-        }
-        return token;
+    public static String newRawToken() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    /**
+     * Expiry of a token issued or rotated now
+     */
+    public static LocalDateTime newExpiry() {
+        return LocalDateTime.now().plusSeconds(TokenConstants.REFRESH_TTL_SEC);
     }
 
     /**
      * Factory method to create a new refresh token for a user and device
      * Returns both the token entity and the raw token string
      */
-    public static RefreshTokenPair createForUserDevice(Long userId, String deviceId, RefreshToken existingToken) {
-        String normalizedDevice = normalizeDeviceId(deviceId);
-        String rawToken = UUID.randomUUID().toString().replace("-", "");
-        String hash = hashToken(rawToken);
+    public static RefreshTokenPair createForUserDevice(Long userId, String deviceId) {
+        String rawToken = newRawToken();
 
         RefreshToken token = new RefreshToken();
         token.setUserId(userId);
-        token.setDeviceId(normalizedDevice);
-        token.setTokenHash(hash);
-        token.setExpiresAt(LocalDateTime.now().plusSeconds(TokenConstants.REFRESH_TTL_SEC));
-
-        // If updating existing token, preserve the ID
-        if (existingToken != null) {
-            token.setId(existingToken.getId());
-        }
+        token.setDeviceId(normalizeDeviceId(deviceId));
+        token.setTokenHash(hashToken(rawToken));
+        token.setExpiresAt(newExpiry());
 
         return new RefreshTokenPair(token, rawToken);
     }
-
-    /**
-     * Update this token with a new refresh token
-     */
-    public String rotateToken() {
-        String newRawToken = UUID.randomUUID().toString().replace("-", "");
-        this.tokenHash = hashToken(newRawToken);
-        this.expiresAt = LocalDateTime.now().plusSeconds(TokenConstants.REFRESH_TTL_SEC);
-        return newRawToken;
-    }
-
-    /**
-     * Save or update this token in the database
-     */
-    public void saveOrUpdate(RefreshTokenMapper mapper) {
-        if (this.id == null) {
-            mapper.insert(this);
-        } else {
-            mapper.updateById(this);
-        }
-    }
 }
@@ -9,9 +9,9 @@ import com.mobile.aura.mapper.RefreshTokenMapper;
 public record RefreshTokenPair(RefreshToken token, String rawToken) {
 
     /**
-     * Save the token to database
+     * Save the token to database, replacing the device's previous token
      */
     public void saveTo(RefreshTokenMapper mapper) {
-        token.saveOrUpdate(mapper);
+        mapper.upsert(token);
     }
 }
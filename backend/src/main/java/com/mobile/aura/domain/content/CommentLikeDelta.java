@@ -0,0 +1,16 @@
+package com.mobile.aura.domain.content;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Coalesced, not yet persisted change to the like count of one comment.
+ * Produced by the write-behind counter buffer and applied in batched updates.
+ */
+@Getter
+@AllArgsConstructor
+public class CommentLikeDelta {
+
+    private final Long commentId;
+    private final int delta;
+}
@@ -7,6 +7,8 @@ import lombok.Data;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Content feature snapshot for analytics
@@ -52,4 +54,13 @@ public class ContentFeature {
         feature.setSnapshotTime(LocalDateTime.now());
         return feature;
     }
+
+    /**
+     * The feature values (excluding IDs and timestamps), compared with equals().
+     * Two snapshots with equal fingerprints describe the same content state.
+     */
+    public List<Object> fingerprint() {
+        return Arrays.asList(postId, authorId, publishTime,
+                heatScore == null ? null : heatScore.stripTrailingZeros(), tagIds);
+    }
 }
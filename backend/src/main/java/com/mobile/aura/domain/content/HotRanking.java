@@ -0,0 +1,105 @@
+package com.mobile.aura.domain.content;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable snapshot of the top-K hottest posts.
+ * Entries are kept in two parallel primitive arrays ordered by
+ * (score DESC, postId DESC); scores are heat scores in hundredths.
+ * Each rebuild produces a new snapshot with a higher version, so paging
+ * clients can keep reading the snapshot they started on.
+ */
+public class HotRanking {
+
+    @Getter
+    private final long version;
+    private final long[] postIds;
+    private final long[] scores;
+
+    private HotRanking(long version, long[] postIds, long[] scores) {
+        this.version = version;
+        this.postIds = postIds;
+        this.scores = scores;
+    }
+
+    /**
+     * Build a snapshot from statistics rows already sorted by heat_score DESC, post_id DESC.
+     *
+     * @param version snapshot version
+     * @param rows rows carrying postId and heatScore
+     * @return new snapshot
+     */
+    public static HotRanking of(long version, List<PostStatistics> rows) {
+        long[] ids = new long[rows.size()];
+        long[] scores = new long[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            PostStatistics row = rows.get(i);
+            ids[i] = row.getPostId();
+            scores[i] = toScore(row.getHeatScore());
+        }
+        return new HotRanking(version, ids, scores);
+    }
+
+    /**
+     * Create an empty snapshot (before the first rebuild).
+     *
+     * @return empty snapshot with version 0
+     */
+    public static HotRanking empty() {
+        return new HotRanking(0, new long[0], new long[0]);
+    }
+
+    public int size() {
+        return postIds.length;
+    }
+
+    public long postIdAt(int index) {
+        return postIds[index];
+    }
+
+    public long scoreAt(int index) {
+        return scores[index];
+    }
+
+    /**
+     * Position of the first entry ranked strictly after (score, postId).
+     * Works for keys that are not in this snapshot, so a cursor from an
+     * older snapshot still resumes at the right place.
+     *
+     * @param score heat score in hundredths
+     * @param postId post ID
+     * @return index in [0, size]
+     */
+    public int indexAfter(long score, long postId) {
+        int lo = 0;
+        int hi = postIds.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (scores[mid] > score || (scores[mid] == score && postIds[mid] >= postId)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Post IDs in [from, to) in rank order.
+     *
+     * @param from inclusive start index
+     * @param to exclusive end index
+     * @return post IDs
+     */
+    public List<Long> postIds(int from, int to) {
+        return Arrays.stream(postIds, from, Math.min(to, postIds.length)).boxed().toList();
+    }
+
+    private static long toScore(BigDecimal heat) {
+        return heat == null ? 0 : heat.movePointRight(2).longValue();
+    }
+}
@@ -9,6 +9,7 @@ import com.mobile.aura.dto.post.MediaItem;
 import com.mobile.aura.dto.post.PostCardResp;
 import com.mobile.aura.dto.post.PostCreateReq;
 import com.mobile.aura.dto.post.PostDetailResp;
+import com.mobile.aura.dto.user.UserBasicInfoResp;
 import com.mobile.aura.support.BizException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -243,6 +244,19 @@ public class Post {
         }
     }
 
+    /**
+     * Non-throwing variant of {@link #ensureReadableBy}, for filtering lists.
+     *
+     * @param viewer the viewer ID (can be null for anonymous users)
+     * @param blockChecker function to check if viewer and author have blocked each other
+     * @return true if the viewer may see this post
+     */
+    public boolean isReadableBy(Long viewer, java.util.function.BiPredicate<Long, Long> blockChecker) {
+        return !isDeleted()
+                && Objects.equals(this.visibility, PostVisibility.PUBLIC)
+                && !(viewer != null && blockChecker != null && blockChecker.test(viewer, this.authorId));
+    }
+
     /**
      * Convert this entity to PostDetailResp DTO.
      *
@@ -280,6 +294,21 @@ public class Post {
      * @return PostCardResp DTO
      */
     public PostCardResp toCardResp(String coverUrl, Integer likeCount, Integer commentCount, Integer bookmarkCount) {
+        return toCardResp(coverUrl, likeCount, commentCount, bookmarkCount, null);
+    }
+
+    /**
+     * Convert this entity to PostCardResp DTO with the author's basic info.
+     *
+     * @param coverUrl URL of the cover image
+     * @param likeCount number of likes
+     * @param commentCount number of comments
+     * @param bookmarkCount number of bookmarks
+     * @param author author nickname/avatar (nullable)
+     * @return PostCardResp DTO
+     */
+    public PostCardResp toCardResp(String coverUrl, Integer likeCount, Integer commentCount, Integer bookmarkCount,
+                                   UserBasicInfoResp author) {
         return new PostCardResp(
                 this.id,
                 coverUrl,
@@ -288,7 +317,8 @@ public class Post {
                 this.createdAt == null ? null : FORMATTER.format(this.createdAt),
                 likeCount,
                 commentCount,
-                bookmarkCount
+                bookmarkCount,
+                author
         );
     }
 
@@ -357,4 +387,47 @@ public class Post {
                 card -> Cursor.build(card.getCreatedAt(), card.getId())
         );
     }
+
+    /**
+     * Build a paginated card response from a pre-hydrated batch.
+     * Cover URLs and statistics are served from the batch, so no per-row queries are issued.
+     *
+     * @param batch hydration batch holding the visible posts (limit + 1 items)
+     * @param limit the page size limit
+     * @return PageResponse with post cards, cursor, and pagination metadata
+     */
+    public static PageResponse<PostCardResp> toCardsPageResponse(PostCardBatch batch, int limit) {
+        return PageResponse.paginate(
+                toCards(batch),
+                limit,
+                card -> Cursor.build(card.getCreatedAt(), card.getId())
+        );
+    }
+
+    /**
+     * Build a paginated card response from a pre-hydrated batch with a custom cursor,
+     * for feeds that are not ordered by creation time.
+     *
+     * @param batch hydration batch holding the visible posts (limit + 1 items)
+     * @param limit the page size limit
+     * @param cursorProvider function to build the next-page cursor from the last post ID
+     * @return PageResponse with post cards, cursor, and pagination metadata
+     */
+    public static PageResponse<PostCardResp> toCardsPageResponse(PostCardBatch batch, int limit,
+                                                                 Function<Long, String> cursorProvider) {
+        return PageResponse.paginate(toCards(batch), limit, card -> cursorProvider.apply(card.getId()));
+    }
+
+    /**
+     * Render every post of a hydration batch as a card, in batch order.
+     */
+    private static List<PostCardResp> toCards(PostCardBatch batch) {
+        return batch.getPosts().stream()
+                .map(post -> {
+                    int[] stats = batch.counts(post.getId());
+                    return post.toCardResp(batch.coverUrl(post.getId()), stats[0], stats[1], stats[2],
+                            batch.author(post.getAuthorId()));
+                })
+                .toList();
+    }
 }
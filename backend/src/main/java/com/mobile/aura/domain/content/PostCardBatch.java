@@ -0,0 +1,121 @@
+package com.mobile.aura.domain.content;
+
+import com.mobile.aura.dto.user.UserBasicInfoResp;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Batch-loaded hydration data for one page of post cards.
+ * Holds cover URLs, statistics and author profiles for a fixed set of posts so that card
+ * rendering never has to go back to the database per row.
+ *
+ * <p>Instances are built by {@link #of} from the results of a fixed number of
+ * {@code IN (...)} queries and are immutable afterwards.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCardBatch {
+
+    /**
+     * Posts visible to the viewer, in their original order.
+     */
+    private final List<Post> posts;
+
+    /**
+     * Cover URL (first media item) per post ID.
+     */
+    private final Map<Long, String> coverUrls;
+
+    /**
+     * Statistics per post ID.
+     */
+    private final Map<Long, PostStatistics> statistics;
+
+    /**
+     * Author nickname/avatar per author ID.
+     */
+    private final Map<Long, UserBasicInfoResp> authors;
+
+    /**
+     * Assemble a batch from bulk query results.
+     * Posts written by a blocked author are dropped while preserving order.
+     *
+     * @param posts page of posts in display order
+     * @param blockedAuthors author IDs blocked in either direction by the viewer
+     * @param covers first media item of each post (posts without media are absent)
+     * @param statistics statistics rows of each post (missing rows default to zero)
+     * @param authors basic info of the post authors (missing authors render without one)
+     * @return hydration batch for the visible posts
+     */
+    public static PostCardBatch of(List<Post> posts,
+                                   Set<Long> blockedAuthors,
+                                   Collection<PostMedia> covers,
+                                   Collection<PostStatistics> statistics,
+                                   Collection<UserBasicInfoResp> authors) {
+        List<Post> visible = posts.stream()
+                .filter(post -> !blockedAuthors.contains(post.getAuthorId()))
+                .toList();
+
+        Map<Long, String> coverUrls = covers.stream()
+                .filter(media -> media.getUrl() != null)
+                .collect(Collectors.toMap(PostMedia::getPostId, PostMedia::getUrl, (a, b) -> a));
+
+        Map<Long, PostStatistics> stats = statistics.stream()
+                .collect(Collectors.toMap(PostStatistics::getPostId, Function.identity(), (a, b) -> a));
+
+        Map<Long, UserBasicInfoResp> authorsById = authors.stream()
+                .collect(Collectors.toMap(UserBasicInfoResp::getUserId, Function.identity(), (a, b) -> a));
+
+        return new PostCardBatch(visible, coverUrls, stats, authorsById);
+    }
+
+    /**
+     * Create an empty batch (no posts to render).
+     *
+     * @return empty batch
+     */
+    public static PostCardBatch empty() {
+        return new PostCardBatch(List.of(), Map.of(), Map.of(), Map.of());
+    }
+
+    /**
+     * Get the cover URL for a post.
+     *
+     * @param postId the post ID
+     * @return cover URL, or null if the post has no media
+     */
+    public String coverUrl(Long postId) {
+        return coverUrls.get(postId);
+    }
+
+    /**
+     * Get interaction counts for a post.
+     *
+     * @param postId the post ID
+     * @return array of likeCount, commentCount, bookmarkCount
+     */
+    public int[] counts(Long postId) {
+        PostStatistics stats = Optional.ofNullable(statistics.get(postId))
+                .orElseGet(() -> PostStatistics.createForPost(postId));
+        return new int[]{stats.getLikeCount(), stats.getCommentCount(), stats.getBookmarkCount()};
+    }
+
+    /**
+     * Get the basic info of a post author.
+     *
+     * @param authorId the author user ID
+     * @return author info, or null if the user no longer exists
+     */
+    public UserBasicInfoResp author(Long authorId) {
+        return authors.get(authorId);
+    }
+}
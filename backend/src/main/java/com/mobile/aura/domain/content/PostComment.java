@@ -8,6 +8,7 @@ import com.mobile.aura.dto.Cursor;
 import com.mobile.aura.dto.PageResponse;
 import com.mobile.aura.dto.post.CommentResp;
 import com.mobile.aura.dto.post.CommentThreadResp;
+import com.mobile.aura.dto.user.UserBasicInfoResp;
 import com.mobile.aura.support.BizException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -110,6 +111,16 @@ public class PostComment {
      * @return CommentResp DTO
      */
     public CommentResp toCommentResp() {
+        return toCommentResp(null);
+    }
+
+    /**
+     * Convert this entity to CommentResp DTO with the author's basic info.
+     *
+     * @param author author nickname/avatar (nullable)
+     * @return CommentResp DTO
+     */
+    public CommentResp toCommentResp(UserBasicInfoResp author) {
         return new CommentResp(
                 this.id,
                 this.postId,
@@ -118,7 +129,8 @@ public class PostComment {
                 this.parentId,
                 this.content,
                 this.createdAt == null ? null : FORMATTER.format(this.createdAt),
-                this.replyCount
+                this.replyCount,
+                author
         );
     }
 
@@ -206,15 +218,17 @@ public class PostComment {
      * @param rootComments query results (limit + 1 items)
      * @param limit the page size limit
      * @param repliesProvider function to get preview replies for each root comment ID
+     * @param authorProvider function to get the basic info of a comment author ID
      * @return PageResponse with comment threads, cursor, and pagination metadata
      */
     public static PageResponse<CommentThreadResp> toThreadsPageResponse(
             List<PostComment> rootComments,
             int limit,
-            Function<Long, List<CommentResp>> repliesProvider) {
+            Function<Long, List<CommentResp>> repliesProvider,
+            Function<Long, UserBasicInfoResp> authorProvider) {
         List<CommentThreadResp> threads = rootComments.stream()
                 .map(root -> new CommentThreadResp(
-                        root.toCommentResp(),
+                        root.toCommentResp(authorProvider.apply(root.getAuthorId())),
                         repliesProvider.apply(root.getId())))
                 .toList();
 
@@ -231,13 +245,15 @@ public class PostComment {
      *
      * @param replies query results (limit + 1 items)
      * @param limit the page size limit
+     * @param authorProvider function to get the basic info of a comment author ID
      * @return PageResponse with comment replies, cursor, and pagination metadata
      */
     public static PageResponse<CommentResp> toRepliesPageResponse(
             List<PostComment> replies,
-            int limit) {
+            int limit,
+            Function<Long, UserBasicInfoResp> authorProvider) {
         List<CommentResp> commentResps = replies.stream()
-                .map(PostComment::toCommentResp)
+                .map(reply -> reply.toCommentResp(authorProvider.apply(reply.getAuthorId())))
                 .toList();
 
         return PageResponse.paginate(
@@ -0,0 +1,52 @@
+package com.mobile.aura.domain.content;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Coalesced, not yet persisted change to the counters of one post_statistics row.
+ * Produced by the write-behind counter buffer and applied in batched updates.
+ */
+@Getter
+@AllArgsConstructor
+public class PostCounterDelta {
+
+    private final Long postId;
+    private final int likeDelta;
+    private final int commentDelta;
+    private final int bookmarkDelta;
+
+    /**
+     * Create a delta that changes nothing.
+     *
+     * @param postId the post ID
+     * @return zero delta
+     */
+    public static PostCounterDelta zero(Long postId) {
+        return new PostCounterDelta(postId, 0, 0, 0);
+    }
+
+    /**
+     * Check whether this delta would change any counter.
+     *
+     * @return true if all deltas are zero
+     */
+    public boolean isZero() {
+        return likeDelta == 0 && commentDelta == 0 && bookmarkDelta == 0;
+    }
+
+    /**
+     * Combine with another delta for the same post.
+     *
+     * @param other delta to add
+     * @return summed delta
+     */
+    public PostCounterDelta plus(PostCounterDelta other) {
+        return new PostCounterDelta(
+                postId,
+                likeDelta + other.likeDelta,
+                commentDelta + other.commentDelta,
+                bookmarkDelta + other.bookmarkDelta
+        );
+    }
+}
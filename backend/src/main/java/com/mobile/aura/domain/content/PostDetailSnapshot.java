@@ -0,0 +1,49 @@
+package com.mobile.aura.domain.content;
+
+import com.mobile.aura.dto.post.MediaItem;
+import com.mobile.aura.dto.post.PostDetailResp;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * The parts of a post detail that only change through author edits: the post row,
+ * its media and its tag names. Counters are not included and are layered on per request.
+ */
+@Getter
+@AllArgsConstructor
+public class PostDetailSnapshot {
+    private final Post post;
+    private final List<MediaItem> medias;
+    private final List<String> tags;
+
+    /**
+     * Approximate retained size in bytes, used to weigh cache entries.
+     *
+     * @return estimated size
+     */
+    public int weight() {
+        int textChars = length(post.getTitle()) + length(post.getCaption())
+                + tags.stream().mapToInt(PostDetailSnapshot::length).sum()
+                + medias.stream()
+                        .mapToInt(m -> length(m.getUrl()) + length(m.getObjectKey()) + length(m.getBlurhash())
+                                + length(m.getMimeType()) + length(m.getChecksum()))
+                        .sum();
+        return 256 + 96 * (medias.size() + tags.size()) + 2 * textChars;
+    }
+
+    /**
+     * Convert to the detail response with the given counters.
+     *
+     * @param stats post statistics (already merged with buffered deltas)
+     * @return PostDetailResp DTO
+     */
+    public PostDetailResp toDetailResp(PostStatistics stats) {
+        return post.toDetailResp(medias, tags, stats.getLikeCount(), stats.getCommentCount(), stats.getBookmarkCount());
+    }
+
+    private static int length(String s) {
+        return s == null ? 0 : s.length();
+    }
+}
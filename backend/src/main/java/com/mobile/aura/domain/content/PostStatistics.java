@@ -52,6 +52,25 @@ public class PostStatistics {
                 .build();
     }
 
+    /**
+     * Overlay counter changes that have not been flushed to the database yet.
+     * Counts never drop below zero, matching the GREATEST(..., 0) guard in SQL.
+     *
+     * @param delta pending delta for this post
+     * @return new PostStatistics instance with the delta applied
+     */
+    public PostStatistics withDelta(PostCounterDelta delta) {
+        return PostStatistics.builder()
+                .postId(this.postId)
+                .likeCount(Math.max(0, this.likeCount + delta.getLikeDelta()))
+                .commentCount(Math.max(0, this.commentCount + delta.getCommentDelta()))
+                .bookmarkCount(Math.max(0, this.bookmarkCount + delta.getBookmarkDelta()))
+                .heatScore(this.heatScore)
+                .createdAt(this.createdAt)
+                .updatedAt(this.updatedAt)
+                .build();
+    }
+
     /**
      * Ensure statistics update succeeded.
      *
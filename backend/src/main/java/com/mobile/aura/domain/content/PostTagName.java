@@ -0,0 +1,12 @@
+package com.mobile.aura.domain.content;
+
+import lombok.Data;
+
+/**
+ * Tag name attached to a post, used for bulk tag loading.
+ */
+@Data
+public class PostTagName {
+    private Long postId;
+    private String name;
+}
@@ -0,0 +1,14 @@
+package com.mobile.aura.domain.content;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One ranked search result: a post ID and its relevance score in millionths.
+ */
+@Getter
+@AllArgsConstructor
+public class SearchHit {
+    private final long postId;
+    private final long score;
+}
@@ -150,4 +150,28 @@ public class Tag {
         );
     }
 
+    /**
+     * Build a paginated response for ranked autocomplete suggestions.
+     * Suggestions are ordered by weight rather than name, so the cursor is the rank offset.
+     *
+     * @param tags ranked suggestions (limit + 1 items)
+     * @param offset rank offset of the first suggestion
+     * @param limit the page size limit
+     * @return PageResponse with tag items, cursor, and pagination metadata
+     */
+    public static com.mobile.aura.dto.PageResponse<TagResp> toSuggestionPageResponse(
+            java.util.List<Tag> tags,
+            int offset,
+            int limit) {
+        java.util.List<TagResp> items = tags.stream()
+                .map(Tag::toTagResp)
+                .toList();
+
+        return com.mobile.aura.dto.PageResponse.paginate(
+                items,
+                limit,
+                tagResp -> String.valueOf(offset + limit)
+        );
+    }
+
 }
@@ -0,0 +1,14 @@
+package com.mobile.aura.domain.content;
+
+import lombok.Data;
+
+/**
+ * Tag with the number of posts it is attached to, used to rank autocomplete suggestions.
+ */
+@Data
+public class TagWeight {
+    private Long id;
+    private String name;
+    private String nameLc;
+    private Integer postCount;
+}
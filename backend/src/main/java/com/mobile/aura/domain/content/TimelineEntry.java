@@ -0,0 +1,22 @@
+package com.mobile.aura.domain.content;
+
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of a follower's timeline inbox: a post pushed to the follower when its
+ * author published it. Rows carry the post's creation time so the inbox can be
+ * paged in feed order without touching the posts table.
+ */
+@Data
+@NoArgsConstructor
+@TableName("timeline_inbox")
+public class TimelineEntry {
+    private Long userId;
+    private LocalDateTime createdAt;
+    private Long postId;
+    private Long authorId;
+}
@@ -0,0 +1,13 @@
+package com.mobile.aura.domain.event;
+
+import lombok.Data;
+
+/**
+ * Number of events of one type recorded for one item.
+ */
+@Data
+public class ItemEventCount {
+    private Long itemId;
+    private String eventType;
+    private Long cnt;
+}
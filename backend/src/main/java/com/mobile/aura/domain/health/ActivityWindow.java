@@ -0,0 +1,125 @@
+package com.mobile.aura.domain.health;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Rolling per-day step and exercise totals for the last {@link #DAYS} days of one user.
+ * <p>
+ * Days live in a ring buffer indexed by epoch day, with running sums next to it: replacing a
+ * day adjusts the sums by the delta, and advancing the window subtracts the days that fall
+ * out. Averages match a full rescan: steps are averaged over days that have a step record,
+ * and exercises are normalized to a week over the 30-day period.
+ */
+public class ActivityWindow {
+
+    public static final int DAYS = 30;
+    private static final double WEEKS_IN_WINDOW = 4.29;
+
+    private final long[] steps = new long[DAYS];
+    private final boolean[] hasSteps = new boolean[DAYS];
+    private final int[] exercises = new int[DAYS];
+
+    private LocalDate endDate;
+    private long totalSteps;
+    private int stepDays;
+    private int totalExercises;
+
+    public ActivityWindow(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    /**
+     * First day covered by a window ending on {@code endDate}.
+     */
+    public static LocalDate startDate(LocalDate endDate) {
+        return endDate.minusDays(DAYS - 1);
+    }
+
+    /**
+     * Move the window end forward, expiring days that drop out. Moving it by a full
+     * window or more clears it.
+     */
+    public void advanceTo(LocalDate newEndDate) {
+        long shift = ChronoUnit.DAYS.between(endDate, newEndDate);
+        if (shift <= 0) {
+            return;
+        }
+        for (long i = 0; i < Math.min(shift, DAYS); i++) {
+            // Slot of the day that is leaving, which is also the slot the new day takes
+            clear(slot(startDate(endDate).plusDays(i)));
+        }
+        endDate = newEndDate;
+    }
+
+    /**
+     * Replace the step total of a day; null means the day has no step record.
+     * Days outside the window are ignored.
+     */
+    public void setSteps(LocalDate day, Integer daySteps) {
+        if (!covers(day)) {
+            return;
+        }
+        int s = slot(day);
+        if (hasSteps[s]) {
+            totalSteps -= steps[s];
+            stepDays--;
+        }
+        hasSteps[s] = daySteps != null;
+        steps[s] = daySteps == null ? 0 : daySteps;
+        if (hasSteps[s]) {
+            totalSteps += steps[s];
+            stepDays++;
+        }
+    }
+
+    /**
+     * Replace the number of (non-deleted) exercise sessions of a day.
+     * Days outside the window are ignored.
+     */
+    public void setExercises(LocalDate day, int count) {
+        if (!covers(day)) {
+            return;
+        }
+        int s = slot(day);
+        totalExercises += count - exercises[s];
+        exercises[s] = count;
+    }
+
+    public boolean covers(LocalDate day) {
+        return !day.isBefore(startDate(endDate)) && !day.isAfter(endDate);
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    /**
+     * Average steps over the days that have a step record, 0 when there are none.
+     */
+    public double avgDailySteps() {
+        return stepDays == 0 ? 0.0 : (double) totalSteps / stepDays;
+    }
+
+    /**
+     * Exercise sessions per week, normalized from the 30-day count.
+     */
+    public double exercisesPerWeek() {
+        return totalExercises / WEEKS_IN_WINDOW;
+    }
+
+    private void clear(int s) {
+        if (hasSteps[s]) {
+            totalSteps -= steps[s];
+            stepDays--;
+        }
+        totalExercises -= exercises[s];
+        steps[s] = 0;
+        hasSteps[s] = false;
+        exercises[s] = 0;
+    }
+
+    private static int slot(LocalDate day) {
+        return (int) Math.floorMod(day.toEpochDay(), (long) DAYS);
+    }
+}
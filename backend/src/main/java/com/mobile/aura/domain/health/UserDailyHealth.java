@@ -0,0 +1,68 @@
+package com.mobile.aura.domain.health;
+
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Per-day health rollup of one user (primary key user_id + day).
+ * Materializes the daily totals of meal_log, exercise_log, step_count,
+ * water_intake and user_weight_log so a day's summary is a single row read.
+ */
+@Data
+@TableName("user_daily_health")
+public class UserDailyHealth {
+
+    private Long userId;
+    private LocalDate day;
+    private Integer kcalIn;
+    private Integer kcalExercise;
+    private Integer kcalSteps;
+    private Integer steps;
+    private Integer waterMl;
+    private Double weightKg;
+    private LocalDateTime updatedAt;
+
+    /**
+     * A day without any recorded data.
+     *
+     * @param userId user ID
+     * @param day calendar day
+     * @return rollup with all totals at zero and no weight
+     */
+    public static UserDailyHealth empty(Long userId, LocalDate day) {
+        UserDailyHealth health = new UserDailyHealth();
+        health.userId = userId;
+        health.day = day;
+        health.kcalIn = 0;
+        health.kcalExercise = 0;
+        health.kcalSteps = 0;
+        health.steps = 0;
+        health.waterMl = 0;
+        return health;
+    }
+
+    /**
+     * Calories eaten that day.
+     *
+     * @return meal calories, 0 if none
+     */
+    public int caloriesIn() {
+        return nz(kcalIn);
+    }
+
+    /**
+     * Calories burned that day: exercise plus walking.
+     *
+     * @return exercise and step calories, 0 if none
+     */
+    public int caloriesOut() {
+        return nz(kcalExercise) + nz(kcalSteps);
+    }
+
+    private static int nz(Integer v) {
+        return v == null ? 0 : v;
+    }
+}
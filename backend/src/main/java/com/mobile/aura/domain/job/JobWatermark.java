@@ -0,0 +1,29 @@
+package com.mobile.aura.domain.job;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress marker of an incremental background job.
+ * Each job keeps its own cursor fields serialized as JSON in {@code state},
+ * so new jobs do not need schema changes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@TableName("job_watermark")
+public class JobWatermark {
+
+    @TableId(type = IdType.INPUT)
+    private String jobName;
+    private String state;
+    private LocalDateTime updatedAt;
+}
@@ -10,7 +10,7 @@ import com.mobile.aura.dto.user.UserDtos.RegisterReq;
 import com.mobile.aura.dto.user.UserDtos.RegisterWithOtpReq;
 import com.mobile.aura.support.BizException;
 import lombok.Data;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -60,7 +60,7 @@ public class User {
     /**
      * Verify password matches the stored hash and throw exception if not
      */
-    public void verifyPasswordOrThrow(String rawPassword, BCryptPasswordEncoder encoder) {
+    public void verifyPasswordOrThrow(String rawPassword, PasswordEncoder encoder) {
         if (!encoder.matches(rawPassword, this.password)) {
             throw new BizException(CommonStatusEnum.BAD_CREDENTIALS);
         }
@@ -69,14 +69,29 @@ public class User {
     /**
      * Verify password matches the stored hash
      */
-    public boolean verifyPassword(String rawPassword, BCryptPasswordEncoder encoder) {
+    public boolean verifyPassword(String rawPassword, PasswordEncoder encoder) {
         return encoder.matches(rawPassword, this.password);
     }
 
+    /**
+     * Re-encode the password when the stored hash uses a weaker work factor than the encoder's.
+     * Call only after the raw password has been verified.
+     *
+     * @return the previous hash when the password was re-encoded, empty otherwise
+     */
+    public Optional<String> rehashIfOutdated(String rawPassword, PasswordEncoder encoder) {
+        if (!encoder.upgradeEncoding(this.password)) {
+            return Optional.empty();
+        }
+        String previous = this.password;
+        this.password = encoder.encode(rawPassword);
+        return Optional.of(previous);
+    }
+
     /**
      * Check if new password is same as current password and throw exception if so
      */
-    public void ensurePasswordDifferent(String newPassword, BCryptPasswordEncoder encoder) {
+    public void ensurePasswordDifferent(String newPassword, PasswordEncoder encoder) {
         if (encoder.matches(newPassword, this.password)) {
             throw new BizException(CommonStatusEnum.NEW_PASSWORD_SAME);
         }
@@ -99,7 +114,7 @@ public class User {
      */
     public static User createNew(RegisterReq req,
                                   java.util.function.Supplier<LocationData> locationFallback,
-                                  BCryptPasswordEncoder encoder) {
+                                  PasswordEncoder encoder) {
         return createUserWithStatus(req.getEmail(), req.getPassword(), req.getNickname(), req.getPhone(),
                                    req.getRegionCode(), req.getCity(), locationFallback, encoder, UserStatus.ACTIVE);
     }
@@ -109,7 +124,7 @@ public class User {
      */
     public static User createNewUnverified(RegisterWithOtpReq req,
                                            java.util.function.Supplier<LocationData> locationFallback,
-                                           BCryptPasswordEncoder encoder) {
+                                           PasswordEncoder encoder) {
         return createUserWithStatus(req.getEmail(), req.getPassword(), req.getNickname(), req.getPhone(),
                                    req.getRegionCode(), req.getCity(), locationFallback, encoder, UserStatus.UNVERIFIED);
     }
@@ -120,7 +135,7 @@ public class User {
     private static User createUserWithStatus(String email, String rawPassword, String nickname, String phone,
                                             String regionCode, String city,
                                             java.util.function.Supplier<LocationData> locationFallback,
-                                            BCryptPasswordEncoder encoder,
+                                            PasswordEncoder encoder,
                                             int status) {
         LocationData finalLocation = resolveLocation(regionCode, city, locationFallback);
 
@@ -153,7 +168,7 @@ public class User {
     /**
      * Update password (validation already done by Spring Validation on DTO)
      */
-    public void updatePassword(String newPassword, BCryptPasswordEncoder encoder) {
+    public void updatePassword(String newPassword, PasswordEncoder encoder) {
         this.password = encoder.encode(newPassword);
     }
 
@@ -182,7 +197,7 @@ public class User {
     /**
      * Verify old password and ensure new password is different
      */
-    public void verifyOldPasswordAndEnsureDifferent(String oldPassword, String newPassword, BCryptPasswordEncoder encoder) {
+    public void verifyOldPasswordAndEnsureDifferent(String oldPassword, String newPassword, PasswordEncoder encoder) {
         if (!verifyPassword(oldPassword, encoder)) {
             throw new BizException(CommonStatusEnum.OLD_PASSWORD_WRONG);
         }
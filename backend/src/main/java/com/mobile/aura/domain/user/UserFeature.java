@@ -6,6 +6,8 @@ import com.baomidou.mybatisplus.annotation.TableName;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 
 @Data
 @TableName("user_features")
@@ -24,4 +26,12 @@ public class UserFeature {
 
     private LocalDateTime snapshotTime;  // Feature snapshot timestamp
     private LocalDateTime createdAt;
+
+    /**
+     * The feature values (excluding IDs and timestamps), compared with equals().
+     * Two snapshots with equal fingerprints describe the same user state.
+     */
+    public List<Object> fingerprint() {
+        return Arrays.asList(age, region, activityLvl, interests, followCount);
+    }
 }
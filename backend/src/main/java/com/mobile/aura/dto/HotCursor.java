@@ -0,0 +1,77 @@
+package com.mobile.aura.dto;
+
+import lombok.Getter;
+
+import java.util.Optional;
+
+/**
+ * Cursor value object for the hot feed.
+ * Pins the ranking snapshot version and the (score, postId) keyset of the last item.
+ */
+@Getter
+public class HotCursor {
+
+    private final Long version;
+    private final long score;
+    private final long postId;
+
+    private HotCursor(Long version, long score, long postId) {
+        this.version = version;
+        this.score = score;
+        this.postId = postId;
+    }
+
+    /**
+     * Parse cursor string into HotCursor object.
+     *
+     * @param cursorStr the cursor string (format: "version|score|postId")
+     * @return HotCursor object, or empty cursor if string is null/blank/malformed
+     */
+    public static HotCursor parse(String cursorStr) {
+        return Optional.ofNullable(cursorStr)
+                .filter(s -> !s.isBlank())
+                .map(s -> s.split("\\|"))
+                .filter(parts -> parts.length == 3)
+                .flatMap(parts -> {
+                    try {
+                        return Optional.of(new HotCursor(
+                                Long.parseLong(parts[0]),
+                                Long.parseLong(parts[1]),
+                                Long.parseLong(parts[2])));
+                    } catch (NumberFormatException e) {
+                        return Optional.empty();
+                    }
+                })
+                .orElse(empty());
+    }
+
+    /**
+     * Build a cursor string.
+     *
+     * @param version ranking snapshot version
+     * @param score heat score in hundredths
+     * @param postId post ID
+     * @return cursor string in format "version|score|postId"
+     */
+    public static String build(long version, long score, long postId) {
+        return version + "|" + score + "|" + postId;
+    }
+
+    /**
+     * Create an empty cursor (for first page).
+     *
+     * @return empty HotCursor
+     */
+    public static HotCursor empty() {
+        return new HotCursor(null, 0, 0);
+    }
+
+    /**
+     * Check if this cursor is empty.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return version == null;
+    }
+}
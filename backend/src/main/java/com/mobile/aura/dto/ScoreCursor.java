@@ -0,0 +1,82 @@
+package com.mobile.aura.dto;
+
+import lombok.Getter;
+
+import java.util.Optional;
+
+/**
+ * Cursor value object for relevance-ranked lists.
+ * Keyset over (score DESC, id DESC).
+ */
+@Getter
+public class ScoreCursor {
+
+    private final Long score;
+    private final long id;
+
+    private ScoreCursor(Long score, long id) {
+        this.score = score;
+        this.id = id;
+    }
+
+    /**
+     * Parse cursor string into ScoreCursor object.
+     *
+     * @param cursorStr the cursor string (format: "score|id")
+     * @return ScoreCursor object, or empty cursor if string is null/blank/malformed
+     */
+    public static ScoreCursor parse(String cursorStr) {
+        return Optional.ofNullable(cursorStr)
+                .filter(s -> !s.isBlank())
+                .map(s -> s.split("\\|"))
+                .filter(parts -> parts.length == 2)
+                .flatMap(parts -> {
+                    try {
+                        return Optional.of(new ScoreCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1])));
+                    } catch (NumberFormatException e) {
+                        return Optional.empty();
+                    }
+                })
+                .orElse(empty());
+    }
+
+    /**
+     * Build a cursor string.
+     *
+     * @param score relevance score
+     * @param id entity ID
+     * @return cursor string in format "score|id"
+     */
+    public static String build(long score, long id) {
+        return score + "|" + id;
+    }
+
+    /**
+     * Create an empty cursor (for first page).
+     *
+     * @return empty ScoreCursor
+     */
+    public static ScoreCursor empty() {
+        return new ScoreCursor(null, 0);
+    }
+
+    /**
+     * Check if this cursor is empty.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return score == null;
+    }
+
+    /**
+     * Check whether (score, id) ranks strictly after this cursor.
+     *
+     * @param otherScore candidate score
+     * @param otherId candidate ID
+     * @return true if the candidate belongs on a later page
+     */
+    public boolean isBefore(long otherScore, long otherId) {
+        return isEmpty() || otherScore < score || (otherScore == score && otherId < id);
+    }
+}
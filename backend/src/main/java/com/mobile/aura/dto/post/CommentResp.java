@@ -1,5 +1,6 @@
 package com.mobile.aura.dto.post;
 
+import com.mobile.aura.dto.user.UserBasicInfoResp;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -14,4 +15,7 @@ public class CommentResp {
     private String content;
     private String createdAt;
     private Integer replyCount;
+
+    // Author nickname/avatar, filled from the batched profile lookup (null if the author no longer exists)
+    private UserBasicInfoResp author;
 }
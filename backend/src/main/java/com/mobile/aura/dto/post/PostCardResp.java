@@ -1,5 +1,6 @@
 package com.mobile.aura.dto.post;
 
+import com.mobile.aura.dto.user.UserBasicInfoResp;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -19,6 +20,9 @@ public class PostCardResp {
     private Integer commentCount;
     private Integer bookmarkCount;
 
+    // Author nickname/avatar, filled from the batched profile lookup (null if the author no longer exists)
+    private UserBasicInfoResp author;
+
     public PostCardResp(Long id, String coverUrl, Long authorId, String title, String createdAt) {
         this.id = id;
         this.coverUrl = coverUrl;
@@ -14,4 +14,9 @@ public class TagListReq extends PageRequest {
      * Search query string.
      */
     private String q;
+
+    /**
+     * List mode: "browse" (default, alphabetical) or "autocomplete" (prefix, ranked by usage).
+     */
+    private String mode;
 }
@@ -0,0 +1,23 @@
+package com.mobile.aura.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Result of a bulk exposure upload.
+ * {@code statuses[i]} is the outcome of the i-th submitted impression, kept as a
+ * flat int array so hundreds of items cost only a few hundred bytes on the wire.
+ */
+@Data
+@AllArgsConstructor
+public class ExposureBatchResp {
+    /** Recorded and linked to the post's feature snapshot */
+    public static final int RECORDED = 0;
+    /** Recorded, but the content ID does not resolve to an existing post */
+    public static final int RECORDED_NO_FEATURE = 1;
+    /** Not recorded: the item was null or had no content ID */
+    public static final int REJECTED = 2;
+
+    private int accepted;
+    private int[] statuses;
+}
@@ -3,6 +3,19 @@ package com.mobile.aura.mapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.mobile.aura.domain.content.ContentExposure;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
 
 @Mapper
-public interface ContentExposureMapper extends BaseMapper<ContentExposure> {}
+public interface ContentExposureMapper extends BaseMapper<ContentExposure> {
+
+    /**
+     * Insert many exposures with a single multi-row INSERT.
+     * IDs must be assigned by the caller.
+     *
+     * @param exposures exposures to insert (must not be empty)
+     * @return number of inserted rows
+     */
+    int insertBatch(@Param("exposures") List<ContentExposure> exposures);
+}
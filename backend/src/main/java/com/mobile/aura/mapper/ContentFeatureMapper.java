@@ -3,10 +3,22 @@ package com.mobile.aura.mapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.mobile.aura.domain.content.ContentFeature;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
 
 /**
  * Mapper for content_feature table
  */
 @Mapper
 public interface ContentFeatureMapper extends BaseMapper<ContentFeature> {
+
+    /**
+     * Insert many snapshots with a single multi-row INSERT.
+     * IDs must be assigned by the caller.
+     *
+     * @param features snapshots to insert (must not be empty)
+     * @return number of inserted rows
+     */
+    int insertBatch(@Param("features") List<ContentFeature> features);
 }
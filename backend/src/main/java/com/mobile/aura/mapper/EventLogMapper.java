@@ -2,7 +2,13 @@ package com.mobile.aura.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.mobile.aura.domain.event.EventLog;
+import com.mobile.aura.domain.event.ItemEventCount;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Mapper for EventLog table.
@@ -10,4 +16,40 @@ import org.apache.ibatis.annotations.Mapper;
  */
 @Mapper
 public interface EventLogMapper extends BaseMapper<EventLog> {
+
+    /**
+     * Insert many events with a single multi-row INSERT.
+     *
+     * @param events events to insert (must not be empty)
+     * @return number of inserted rows
+     */
+    int insertBatch(@Param("events") List<EventLog> events);
+
+    /**
+     * Highest event ID currently visible.
+     *
+     * @return the maximum ID, or null when the table is empty
+     */
+    Long selectMaxId();
+
+    /**
+     * Count events per item and type recorded at or after {@code since}.
+     *
+     * @param itemIds item IDs (must not be empty)
+     * @param eventTypes event types to count (must not be empty)
+     * @param since inclusive lower bound on ts
+     * @return one row per (item, type) pair that has events
+     */
+    List<ItemEventCount> countByItemsSince(@Param("itemIds") Collection<Long> itemIds,
+                                           @Param("eventTypes") Collection<String> eventTypes,
+                                           @Param("since") LocalDateTime since);
+
+    /**
+     * List items that have events with {@code from < ts <= to}.
+     *
+     * @param from exclusive lower bound on ts
+     * @param to inclusive upper bound on ts
+     * @return distinct item IDs
+     */
+    List<Long> listItemIdsBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
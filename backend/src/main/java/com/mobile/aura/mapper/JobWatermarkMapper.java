@@ -0,0 +1,22 @@
+package com.mobile.aura.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.mobile.aura.domain.job.JobWatermark;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * Mapper for job_watermark table.
+ */
+@Mapper
+public interface JobWatermarkMapper extends BaseMapper<JobWatermark> {
+
+    /**
+     * Insert or replace a job's watermark state.
+     *
+     * @param jobName the job name
+     * @param state serialized cursor state
+     * @return number of affected rows
+     */
+    int upsert(@Param("jobName") String jobName, @Param("state") String state);
+}
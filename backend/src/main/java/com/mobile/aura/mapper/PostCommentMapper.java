@@ -1,10 +1,12 @@
 package com.mobile.aura.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.mobile.aura.domain.content.CommentLikeDelta;
 import com.mobile.aura.domain.content.PostComment;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -26,6 +28,13 @@ public interface PostCommentMapper extends BaseMapper<PostComment> {
      */
     int incLikeCount(@Param("id") Long id, @Param("delta") int delta);
 
+    /**
+     * Apply coalesced like count deltas to many comments in a single statement.
+     * @param deltas per-comment deltas (must not be empty)
+     * @return number of updated rows
+     */
+    int applyLikeDeltas(@Param("deltas") List<CommentLikeDelta> deltas);
+
     /**
      * List root comments for a post with cursor-based pagination.
      * @param postId the post ID
@@ -42,15 +51,15 @@ public interface PostCommentMapper extends BaseMapper<PostComment> {
     );
 
     /**
-     * List preview replies for a root comment.
+     * List preview replies for many root comments of one post in a single windowed query.
      * @param postId the post ID
-     * @param rootId the root comment ID
-     * @param previewSize maximum number of preview replies
-     * @return list of preview replies
+     * @param rootIds the root comment IDs (must not be empty)
+     * @param previewSize maximum number of preview replies per root
+     * @return preview replies of all roots, oldest first within each root
      */
-    List<PostComment> listPreviewReplies(
+    List<PostComment> listPreviewRepliesByRootIds(
             @Param("postId") Long postId,
-            @Param("rootId") Long rootId,
+            @Param("rootIds") Collection<Long> rootIds,
             @Param("previewSize") int previewSize
     );
 
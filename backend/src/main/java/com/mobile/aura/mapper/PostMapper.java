@@ -39,6 +39,14 @@ public interface PostMapper extends BaseMapper<Post> {
             @Param("limit") int limit
     );
 
+    /**
+     * List public, non-deleted posts in ID order, for building the search index.
+     * @param afterId return posts with id greater than this
+     * @param limit maximum number of results
+     * @return list of posts ordered by id
+     */
+    List<Post> listSearchableAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
     /**
      * Search public posts by keyword with cursor-based pagination.
      * @param keyword search keyword (searches in title and caption)
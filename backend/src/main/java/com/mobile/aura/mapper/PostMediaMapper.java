@@ -24,6 +24,14 @@ public interface PostMediaMapper extends BaseMapper<PostMedia> {
      */
     PostMedia findFirstByPostId(@Param("postId") Long postId);
 
+    /**
+     * Find the first media item (cover image) of each post in a single query.
+     * Posts without media are absent from the result.
+     * @param postIds the post IDs (must not be empty)
+     * @return one media item per post that has media
+     */
+    List<PostMedia> listCoversByPostIds(@Param("postIds") List<Long> postIds);
+
     /**
      * Delete all media for a post.
      * Batch delete operation - may delete 0 rows if post has no media.
@@ -1,10 +1,14 @@
 package com.mobile.aura.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.mobile.aura.domain.content.PostCounterDelta;
 import com.mobile.aura.domain.content.PostStatistics;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * Mapper for PostStatistics operations.
  * All SQL statements are defined in PostStatisticsMapper.xml
@@ -38,4 +42,54 @@ public interface PostStatisticsMapper extends BaseMapper<PostStatistics> {
      * @return number of rows updated
      */
     int incBookmarkCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    /**
+     * Apply coalesced counter deltas to many posts in a single statement.
+     * Counts are clamped at zero.
+     *
+     * @param deltas per-post deltas (must not be empty)
+     * @return number of rows updated
+     */
+    int applyDeltas(@Param("deltas") List<PostCounterDelta> deltas);
+
+    /**
+     * Create zeroed statistics rows for posts that exist but have none.
+     *
+     * @param postIds post IDs (must not be empty)
+     * @return number of inserted rows
+     */
+    int insertMissing(@Param("postIds") List<Long> postIds);
+
+    /**
+     * List statistics rows modified after a (updated_at, post_id) keyset cursor and before {@code until}.
+     * Only post_id and updated_at are populated.
+     *
+     * @param afterTime cursor updated_at (null to start from the beginning)
+     * @param afterPostId cursor post_id
+     * @param until exclusive upper bound on updated_at
+     * @param limit maximum results
+     * @return rows ordered by updated_at, post_id
+     */
+    List<PostStatistics> listUpdatedAfter(@Param("afterTime") LocalDateTime afterTime,
+                                          @Param("afterPostId") Long afterPostId,
+                                          @Param("until") LocalDateTime until,
+                                          @Param("limit") int limit);
+
+    /**
+     * Write heat scores of many posts in a single statement.
+     * updated_at is left untouched so scoring does not re-trigger itself.
+     *
+     * @param scores rows carrying postId and heatScore (must not be empty)
+     * @return number of rows updated
+     */
+    int updateHeatScores(@Param("scores") List<PostStatistics> scores);
+
+    /**
+     * List the hottest public, non-deleted posts.
+     * Only post_id and heat_score are populated.
+     *
+     * @param limit maximum results
+     * @return rows ordered by heat_score DESC, post_id DESC
+     */
+    List<PostStatistics> listTopHeat(@Param("limit") int limit);
 }
@@ -3,6 +3,46 @@ package com.mobile.aura.mapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.mobile.aura.domain.content.PostTag;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 @Mapper
-public interface PostTagMapper extends BaseMapper<PostTag> {}
+public interface PostTagMapper extends BaseMapper<PostTag> {
+
+    /**
+     * List the tag IDs attached to a post.
+     *
+     * @param postId the post ID
+     * @return tag IDs
+     */
+    List<Long> listTagIdsByPostId(@Param("postId") Long postId);
+
+    /**
+     * List the IDs of the posts a tag is attached to.
+     *
+     * @param tagId the tag ID
+     * @return post IDs
+     */
+    List<Long> listPostIdsByTagId(@Param("tagId") Long tagId);
+
+    /**
+     * Attach many tags to a post with one multi-row INSERT IGNORE.
+     * Existing associations and unknown tag IDs are skipped.
+     *
+     * @param postId the post ID
+     * @param tagIds tag IDs to attach (must not be empty)
+     * @return number of inserted rows
+     */
+    int insertIgnoreBatch(@Param("postId") Long postId, @Param("tagIds") Collection<Long> tagIds);
+
+    /**
+     * Detach the given tags from a post in one statement.
+     *
+     * @param postId the post ID
+     * @param tagIds tag IDs to detach (must not be empty)
+     * @return number of deleted rows
+     */
+    int deleteByPostIdAndTagIds(@Param("postId") Long postId, @Param("tagIds") Collection<Long> tagIds);
+}
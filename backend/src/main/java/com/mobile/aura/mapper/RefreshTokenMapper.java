@@ -3,8 +3,39 @@ package com.mobile.aura.mapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.mobile.aura.domain.auth.RefreshToken;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
 
 @Mapper
 public interface RefreshTokenMapper extends BaseMapper<RefreshToken> {
 
+    /**
+     * Issue a token for a user/device, replacing the device's previous one (uk_user_device).
+     *
+     * @param token token with userId, deviceId, tokenHash and expiresAt set
+     * @return number of affected rows (1 inserted, 2 replaced)
+     */
+    int upsert(RefreshToken token);
+
+    /**
+     * Compare-and-swap rotation: replace a live token's hash in one statement.
+     * Of several concurrent rotations of the same token exactly one matches.
+     *
+     * @param oldHash hash presented by the client
+     * @param newHash hash of the replacement token
+     * @param expiresAt expiry of the replacement token
+     * @return 1 when rotated, 0 when the hash is unknown, expired or already rotated
+     */
+    int rotate(@Param("oldHash") String oldHash,
+               @Param("newHash") String newHash,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Owner of a token.
+     *
+     * @param tokenHash token hash
+     * @return user ID, or null when no token has this hash
+     */
+    Long findUserIdByHash(@Param("tokenHash") String tokenHash);
 }
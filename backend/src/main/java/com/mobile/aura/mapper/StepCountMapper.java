@@ -3,10 +3,23 @@ package com.mobile.aura.mapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.mobile.aura.domain.health.StepCount;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
 
 /**
  * Mapper for StepCount entity.
  */
 @Mapper
 public interface StepCountMapper extends BaseMapper<StepCount> {
+
+    /**
+     * Insert or update many days of one or more users in one statement (uk_user_date).
+     * An existing row is only overwritten by a row with a larger sync sequence, so a
+     * concurrent sync that already stored newer data is not rolled back.
+     *
+     * @param rows rows to write
+     * @return number of affected rows
+     */
+    int upsertBatch(@Param("rows") List<StepCount> rows);
 }
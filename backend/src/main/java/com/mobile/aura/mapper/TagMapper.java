@@ -2,11 +2,14 @@ package com.mobile.aura.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.mobile.aura.domain.content.Post;
+import com.mobile.aura.domain.content.PostTagName;
 import com.mobile.aura.domain.content.Tag;
+import com.mobile.aura.domain.content.TagWeight;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -24,6 +27,23 @@ public interface TagMapper extends BaseMapper<Tag> {
      */
     Tag findByNameLc(@Param("nameLc") String nameLc);
 
+    /**
+     * Finds all tags whose lowercase name is in the given set.
+     *
+     * @param namesLc lowercase names (must not be empty)
+     * @return matching tags (names without a tag are absent)
+     */
+    List<Tag> findByNameLcIn(@Param("namesLc") Collection<String> namesLc);
+
+    /**
+     * Inserts many tags with one multi-row INSERT IGNORE; names that already
+     * exist (including ones created concurrently) are skipped.
+     *
+     * @param tags tags to insert (must not be empty)
+     * @return number of inserted rows
+     */
+    int insertIgnoreBatch(@Param("tags") List<Tag> tags);
+
     /**
      * Lists tags with optional keyword filtering and cursor-based pagination.
      *
@@ -44,6 +64,21 @@ public interface TagMapper extends BaseMapper<Tag> {
      */
     List<Tag> findTagsByPostId(@Param("postId") Long postId);
 
+    /**
+     * Lists tag names of many posts in a single query.
+     *
+     * @param postIds the post IDs (must not be empty)
+     * @return one row per post-tag association
+     */
+    List<PostTagName> listTagNamesByPostIds(@Param("postIds") List<Long> postIds);
+
+    /**
+     * Lists every tag with the number of posts it is attached to.
+     *
+     * @return all tags with post counts
+     */
+    List<TagWeight> listTagWeights();
+
     /**
      * Lists all public posts associated with a specific tag with cursor-based pagination.
      *
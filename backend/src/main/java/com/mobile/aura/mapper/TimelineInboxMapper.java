@@ -0,0 +1,99 @@
+package com.mobile.aura.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.mobile.aura.domain.content.TimelineEntry;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface TimelineInboxMapper extends BaseMapper<TimelineEntry> {
+
+    /**
+     * Push one post into many inboxes with a multi-row INSERT IGNORE.
+     * Inboxes that already hold the post are skipped.
+     *
+     * @param postId the post ID
+     * @param authorId the post author ID
+     * @param createdAt the post creation time
+     * @param userIds inbox owners (must not be empty)
+     * @return number of inserted rows
+     */
+    int insertIgnoreBatch(@Param("postId") Long postId,
+                          @Param("authorId") Long authorId,
+                          @Param("createdAt") LocalDateTime createdAt,
+                          @Param("userIds") List<Long> userIds);
+
+    /**
+     * Copy an author's recent public posts into one inbox (used right after a follow).
+     *
+     * @param userId the inbox owner
+     * @param authorId the followed author
+     * @param since oldest post creation time to copy
+     * @param limit maximum number of posts to copy
+     * @return number of inserted rows
+     */
+    int backfillFromAuthor(@Param("userId") Long userId,
+                           @Param("authorId") Long authorId,
+                           @Param("since") LocalDateTime since,
+                           @Param("limit") int limit);
+
+    /**
+     * Seed the inboxes of a range of followers with the recent public posts of every
+     * push-mode author they follow (used once for follows that predate the inboxes).
+     *
+     * @param fromUserId first follower ID (inclusive)
+     * @param toUserId last follower ID (inclusive)
+     * @param since oldest post creation time to copy
+     * @param limit maximum number of posts copied per followed author
+     * @param maxFans authors with at least this many fans are skipped (pulled at read time)
+     * @return number of inserted rows
+     */
+    int seedFromFollows(@Param("fromUserId") Long fromUserId,
+                        @Param("toUserId") Long toUserId,
+                        @Param("since") LocalDateTime since,
+                        @Param("limit") int limit,
+                        @Param("maxFans") int maxFans);
+
+    /**
+     * Read one page of an inbox, newest first.
+     *
+     * @param userId the inbox owner
+     * @param cursorTimestamp cursor created_at value (nullable)
+     * @param cursorId cursor post_id value
+     * @param limit maximum results
+     * @return inbox rows ordered by created_at DESC, post_id DESC
+     */
+    List<TimelineEntry> listPage(@Param("userId") Long userId,
+                                 @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+                                 @Param("cursorId") Long cursorId,
+                                 @Param("limit") int limit);
+
+    /**
+     * Remove a post from every inbox.
+     *
+     * @param postId the post ID
+     * @return number of deleted rows
+     */
+    int deleteByPostId(@Param("postId") Long postId);
+
+    /**
+     * Remove an author's posts from one inbox (after an unfollow or block).
+     *
+     * @param userId the inbox owner
+     * @param authorId the author ID
+     * @return number of deleted rows
+     */
+    int deleteByUserAndAuthor(@Param("userId") Long userId, @Param("authorId") Long authorId);
+
+    /**
+     * Delete up to {@code limit} rows older than the retention horizon.
+     *
+     * @param before rows with created_at before this time are deleted
+     * @param limit maximum rows to delete
+     * @return number of deleted rows
+     */
+    int deleteOlderThan(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -21,6 +21,13 @@ public interface UserBlockMapper extends BaseMapper<UserBlock> {
      */
     long countBlock(@Param("blockerId") Long blockerId, @Param("blockedId") Long blockedId);
 
+    /**
+     * List every user with a block relationship to the viewer in either direction.
+     * @param viewer the viewer user ID
+     * @return user IDs blocked by or blocking the viewer
+     */
+    List<Long> findBlockedEitherIds(@Param("viewer") Long viewer);
+
     /**
      * Get paginated blocked users list.
      * Returns user IDs that the blocker has blocked.
@@ -0,0 +1,107 @@
+package com.mobile.aura.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.mobile.aura.domain.health.UserDailyHealth;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Mapper for the user_daily_health rollup.
+ * Write-path statements each touch one day row; the range statements recompute
+ * rows from the source tables for a user ID range, optionally limited to a date range.
+ */
+@Mapper
+public interface UserDailyHealthMapper extends BaseMapper<UserDailyHealth> {
+
+    /**
+     * Add meal and exercise calorie deltas to a day, creating the row if needed.
+     *
+     * @param userId user ID
+     * @param day calendar day
+     * @param kcalIn change of eaten calories
+     * @param kcalExercise change of exercise calories
+     * @return number of affected rows
+     */
+    int addKcal(@Param("userId") Long userId,
+                @Param("day") LocalDate day,
+                @Param("kcalIn") int kcalIn,
+                @Param("kcalExercise") int kcalExercise);
+
+    /**
+     * Copy the stored step_count rows of the given days into the rollup.
+     *
+     * @param userId user ID
+     * @param days days whose step rows were written
+     * @return number of affected rows
+     */
+    int refreshSteps(@Param("userId") Long userId, @Param("days") Collection<LocalDate> days);
+
+    /**
+     * Set a day's water intake.
+     *
+     * @param userId user ID
+     * @param day calendar day
+     * @param waterMl total intake in milliliters
+     * @return number of affected rows
+     */
+    int setWater(@Param("userId") Long userId, @Param("day") LocalDate day, @Param("waterMl") int waterMl);
+
+    /**
+     * Set a day's weight.
+     *
+     * @param userId user ID
+     * @param day calendar day
+     * @param weightKg weight in kilograms
+     * @return number of affected rows
+     */
+    int setWeight(@Param("userId") Long userId, @Param("day") LocalDate day, @Param("weightKg") Double weightKg);
+
+    /**
+     * Recompute rollup rows from the source tables in one statement. Existing rows in
+     * range without any source data are reset to zero.
+     *
+     * @param fromUserId first user ID (inclusive)
+     * @param toUserId last user ID (inclusive)
+     * @param from first day (inclusive), null for all history
+     * @param to last day (inclusive), null for all history
+     * @return number of affected rows
+     */
+    int rebuild(@Param("fromUserId") Long fromUserId,
+                @Param("toUserId") Long toUserId,
+                @Param("from") LocalDate from,
+                @Param("to") LocalDate to);
+
+    /**
+     * Daily totals computed from the source tables, without touching the rollup.
+     *
+     * @param fromUserId first user ID (inclusive)
+     * @param toUserId last user ID (inclusive)
+     * @param from first day (inclusive)
+     * @param to last day (inclusive)
+     * @return one row per user and day with data
+     */
+    List<UserDailyHealth> selectTotals(@Param("fromUserId") Long fromUserId,
+                                       @Param("toUserId") Long toUserId,
+                                       @Param("from") LocalDate from,
+                                       @Param("to") LocalDate to);
+
+    /**
+     * Days whose rollup row is missing or differs from the source tables.
+     *
+     * @param fromUserId first user ID (inclusive)
+     * @param toUserId last user ID (inclusive)
+     * @param from first day (inclusive)
+     * @param to last day (inclusive)
+     * @param limit maximum rows returned
+     * @return user ID and day of each drifted row
+     */
+    List<UserDailyHealth> findDrift(@Param("fromUserId") Long fromUserId,
+                                    @Param("toUserId") Long toUserId,
+                                    @Param("from") LocalDate from,
+                                    @Param("to") LocalDate to,
+                                    @Param("limit") int limit);
+}
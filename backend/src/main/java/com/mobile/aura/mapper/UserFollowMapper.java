@@ -5,6 +5,7 @@ import com.mobile.aura.domain.user.UserFollow;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -17,6 +18,46 @@ public interface UserFollowMapper extends BaseMapper<UserFollow> {
      */
     List<UserFollow> listByFollowerId(@Param("followerId") Long followerId);
 
+    /**
+     * List one chunk of a user's followers in follow order, for timeline fan-out.
+     *
+     * @param followeeId the user whose followers to list
+     * @param afterCreatedAt created_at of the last row of the previous chunk (nullable)
+     * @param afterFollowerId follower_id of the last row of the previous chunk
+     * @param limit maximum results
+     * @return follow relationships ordered by created_at ASC, follower_id ASC
+     */
+    List<UserFollow> listFollowersAfter(
+            @Param("followeeId") Long followeeId,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterFollowerId") Long afterFollowerId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * List distinct follower IDs in ascending order, for seeding timeline inboxes.
+     *
+     * @param afterFollowerId return followers with an ID greater than this (nullable)
+     * @param limit maximum results
+     * @return follower user IDs ordered ascending
+     */
+    List<Long> listFollowerIdsAfter(@Param("afterFollowerId") Long afterFollowerId, @Param("limit") int limit);
+
+    /**
+     * List the users a follower follows whose fan count is at least {@code minFans}.
+     * These authors do not fan out on write; their posts are pulled at read time.
+     *
+     * @param followerId the follower user ID
+     * @param minFans minimum fans_count
+     * @param limit maximum results
+     * @return followee user IDs
+     */
+    List<Long> listFolloweeIdsWithMinFans(
+            @Param("followerId") Long followerId,
+            @Param("minFans") int minFans,
+            @Param("limit") int limit
+    );
+
     /**
      * Get paginated followers list with block filtering.
      * Returns user IDs who follow the owner, excluding blocked users.
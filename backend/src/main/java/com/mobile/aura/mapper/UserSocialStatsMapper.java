@@ -38,4 +38,12 @@ public interface UserSocialStatsMapper extends BaseMapper<UserSocialStats> {
      * @return number of rows updated
      */
     int incPostCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    /**
+     * Read a user's fans count.
+     *
+     * @param userId user ID
+     * @return fans count, or null if the user has no stats row
+     */
+    Integer findFansCount(@Param("userId") Long userId);
 }
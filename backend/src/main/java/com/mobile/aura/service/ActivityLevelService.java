@@ -1,5 +1,8 @@
 package com.mobile.aura.service;
 
+import java.time.LocalDate;
+import java.util.Collection;
+
 /**
  * Service for automatically calculating and updating user activity levels
  * based on actual step count and exercise data.
@@ -13,4 +16,14 @@ public interface ActivityLevelService {
      * @param userId user ID
      */
     void recalculateAndUpdate(Long userId);
+
+    /**
+     * Mark a user dirty once the current transaction commits (immediately when there is none).
+     * The recalculation runs in the background, at most once per debounce window per user,
+     * and re-reads only the touched days.
+     *
+     * @param userId user ID
+     * @param days dates whose step or exercise data changed
+     */
+    void requestRecalculation(Long userId, Collection<LocalDate> days);
 }
@@ -0,0 +1,40 @@
+package com.mobile.aura.service;
+
+import java.util.Set;
+
+/**
+ * Service interface for per-viewer block sets.
+ * A block set contains every user that the viewer has blocked or that has blocked the viewer,
+ * so feed and detail paths can filter authors in memory instead of querying per post.
+ */
+public interface BlockSetService {
+
+    /**
+     * Gets all users with a block relationship to the viewer in either direction.
+     * Served from a per-viewer cache; loaded with a single query on miss.
+     *
+     * @param viewer the viewer user ID (null for anonymous viewers)
+     * @return immutable set of blocked user IDs (empty for anonymous viewers)
+     */
+    Set<Long> blockSetOf(Long viewer);
+
+    /**
+     * Checks whether two users have blocked each other (either direction).
+     *
+     * @param a first user ID (nullable)
+     * @param b second user ID (nullable)
+     * @return true if either user has blocked the other, false if either ID is null
+     */
+    boolean blockedEither(Long a, Long b);
+
+    /**
+     * Drops cached block sets after a block relationship changed.
+     * Both sides must be invalidated because each set covers both directions.
+     * Inside a transaction the eviction is repeated after commit so that a
+     * concurrent reload cannot cache the pre-commit state.
+     *
+     * @param blocker the blocker user ID
+     * @param blocked the blocked user ID
+     */
+    void invalidate(Long blocker, Long blocked);
+}
@@ -0,0 +1,26 @@
+package com.mobile.aura.service;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Service interface for content feature snapshots used by the recommendation system.
+ */
+public interface ContentFeatureService {
+    /**
+     * Create a snapshot of a post's features (author, publish time, heat, tags).
+     * The latest snapshot is reused while it is within the configured TTL,
+     * or afterwards as long as the post's feature values are unchanged.
+     * @param postId Post ID
+     * @return ContentFeature ID, or null if the post does not exist
+     */
+    Long createSnapshot(Long postId);
+
+    /**
+     * Batch variant of {@link #createSnapshot(Long)}: posts, statistics and tags are loaded
+     * with one query each and new snapshots are written with one multi-row insert.
+     * @param postIds Post IDs
+     * @return ContentFeature ID by post ID; missing posts are absent
+     */
+    Map<Long, Long> createSnapshots(Collection<Long> postIds);
+}
@@ -0,0 +1,84 @@
+package com.mobile.aura.service;
+
+import com.mobile.aura.domain.health.UserDailyHealth;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Service for the user_daily_health rollup: per-day calories in/out, steps, water and weight.
+ * <p>
+ * The write methods run inside the caller's transaction, so a rollup row commits together
+ * with the source rows it reflects. History written before the rollup existed is filled in
+ * by a watermarked backfill, and a consistency check repairs drift on recent days.
+ */
+public interface DailyHealthService {
+
+    /**
+     * Apply a change of eaten calories (meal added, edited or deleted).
+     *
+     * @param userId user ID
+     * @param day meal date
+     * @param delta calories added (negative when removed)
+     */
+    void addMealKcal(Long userId, LocalDate day, int delta);
+
+    /**
+     * Apply a change of exercise calories (exercise added or deleted).
+     *
+     * @param userId user ID
+     * @param day exercise date
+     * @param delta calories added (negative when removed)
+     */
+    void addExerciseKcal(Long userId, LocalDate day, int delta);
+
+    /**
+     * Copy the stored step rows of the given days into the rollup.
+     *
+     * @param userId user ID
+     * @param days days whose step rows were written
+     */
+    void refreshSteps(Long userId, Collection<LocalDate> days);
+
+    /**
+     * Record a day's total water intake.
+     *
+     * @param userId user ID
+     * @param day intake date
+     * @param waterMl total intake in milliliters (0 when cleared)
+     */
+    void setWater(Long userId, LocalDate day, int waterMl);
+
+    /**
+     * Record a day's weight.
+     *
+     * @param userId user ID
+     * @param day measurement date
+     * @param weightKg weight in kilograms
+     */
+    void setWeight(Long userId, LocalDate day, Double weightKg);
+
+    /**
+     * Daily totals of one user: a primary-key read once the backfill has covered the user,
+     * computed from the source tables before that.
+     *
+     * @param userId user ID
+     * @param day calendar day
+     * @return totals of the day, all zero when nothing was recorded
+     */
+    UserDailyHealth getDay(Long userId, LocalDate day);
+
+    /**
+     * Recompute the rollup of the next users after the backfill watermark.
+     *
+     * @return number of users covered by this run (0 once the backfill is complete)
+     */
+    int backfill();
+
+    /**
+     * Compare recent rollup rows with the source tables and repair the days that drifted.
+     *
+     * @return number of repaired days
+     */
+    int checkConsistency();
+}
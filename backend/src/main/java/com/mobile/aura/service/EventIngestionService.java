@@ -0,0 +1,31 @@
+package com.mobile.aura.service;
+
+import com.mobile.aura.domain.event.EventLog;
+
+/**
+ * Service interface for buffered event_log ingestion.
+ * Events are accepted into a bounded in-memory buffer and written by a background
+ * worker in multi-row INSERT batches, flushed when a batch fills up or the flush
+ * interval elapses. While MySQL is slow or failing, batches are spilled to local
+ * files and replayed once the database recovers.
+ */
+public interface EventIngestionService {
+
+    /**
+     * Submits an event for asynchronous persistence.
+     * Blocks for at most the configured offer timeout when the buffer is full,
+     * then drops the event and records it in the overflow metrics.
+     *
+     * @param event the event to persist
+     * @return true if the event was accepted, false if it was dropped
+     */
+    boolean submit(EventLog event);
+
+    /**
+     * Replays spilled batches into MySQL, oldest first.
+     * Does nothing while the pipeline is degraded.
+     *
+     * @return number of events replayed
+     */
+    int replaySpilled();
+}
@@ -31,7 +31,9 @@ public interface EventLogService {
 
     /**
      * Log an event asynchronously (non-blocking)
-     * Suitable for high-frequency events like expose
+     * Suitable for high-frequency events like expose.
+     * Events are buffered and written in batches; they may be dropped under overload.
+     * Inside a transaction the event is only submitted once it commits.
      *
      * @param userId user ID
      * @param itemId content/post ID
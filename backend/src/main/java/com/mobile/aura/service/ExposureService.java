@@ -1,5 +1,6 @@
 package com.mobile.aura.service;
 
+import com.mobile.aura.dto.user.ExposureBatchResp;
 import com.mobile.aura.dto.user.ExposureCreateReq;
 import com.mobile.aura.dto.user.ExposureDto;
 import com.mobile.aura.dto.user.ExposureQueryReq;
@@ -9,5 +10,14 @@ import java.util.List;
 public interface ExposureService {
     void createExposure(Long userId, ExposureCreateReq req);
 
+    /**
+     * Record many impressions at once. The user snapshot, weather lookups and content
+     * snapshots are resolved once per batch and rows are written with multi-row inserts.
+     * @param userId User ID
+     * @param reqs impressions shown to the user
+     * @return accepted count and one status code per submitted item
+     */
+    ExposureBatchResp createExposures(Long userId, List<ExposureCreateReq> reqs);
+
     List<ExposureDto> getExposures(Long userId, ExposureQueryReq req);
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.mobile.aura.service;
+
+/**
+ * Service interface for post heat scores.
+ * Heat combines likes, comments, bookmarks and recent event_log activity with
+ * time decay, and is stored in post_statistics.heat_score (indexed by idx_stats_heat).
+ * <p>
+ * Scoring is incremental: each run only rescores posts whose inputs changed
+ * since the previous run's watermark.
+ */
+public interface HeatScoreService {
+
+    /**
+     * Rescore every post whose statistics or events changed since the last run,
+     * then advance the watermark.
+     *
+     * @return number of posts rescored
+     */
+    int refresh();
+}
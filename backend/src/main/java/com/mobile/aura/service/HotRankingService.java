@@ -0,0 +1,31 @@
+package com.mobile.aura.service;
+
+import com.mobile.aura.domain.content.HotRanking;
+
+/**
+ * Service interface for the in-memory hot-post ranking.
+ * The ranking is rebuilt periodically from post_statistics.heat_score, so
+ * hot feed requests never run an ORDER BY heat_score scan against MySQL.
+ */
+public interface HotRankingService {
+
+    /**
+     * Get the latest ranking snapshot.
+     *
+     * @return current snapshot (empty before the first rebuild)
+     */
+    HotRanking current();
+
+    /**
+     * Get a specific snapshot, falling back to the latest one once it has been evicted.
+     *
+     * @param version snapshot version
+     * @return requested snapshot if still retained, otherwise the current one
+     */
+    HotRanking versionOrCurrent(long version);
+
+    /**
+     * Reload the top-K posts and publish them as a new snapshot.
+     */
+    void rebuild();
+}
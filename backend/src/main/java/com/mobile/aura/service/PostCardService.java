@@ -0,0 +1,26 @@
+package com.mobile.aura.service;
+
+import com.mobile.aura.domain.content.Post;
+import com.mobile.aura.domain.content.PostCardBatch;
+
+import java.util.List;
+
+/**
+ * Service interface for hydrating post card lists.
+ * Loads everything a page of post cards needs (cover media, statistics,
+ * author nickname/avatar, block status) in a fixed number of batched queries,
+ * independent of page size.
+ */
+public interface PostCardService {
+
+    /**
+     * Hydrates a page of posts for card rendering.
+     * Posts whose author has a block relationship with the viewer (either direction)
+     * are removed from the batch; the remaining posts keep their original order.
+     *
+     * @param viewer the ID of the viewing user (null skips block filtering)
+     * @param posts the page of posts to hydrate, typically limit + 1 rows
+     * @return hydration batch to pass to {@link Post#toCardsPageResponse(PostCardBatch, int)}
+     */
+    PostCardBatch hydrate(Long viewer, List<Post> posts);
+}
@@ -0,0 +1,63 @@
+package com.mobile.aura.service;
+
+import com.mobile.aura.domain.content.PostStatistics;
+
+/**
+ * Service interface for write-behind post and comment counters.
+ * Absorbs like, comment and bookmark increments in memory and flushes coalesced
+ * deltas in batched updates, so hot posts no longer serialize on a single
+ * post_statistics row lock inside every user transaction.
+ * <p>
+ * Increments issued inside a transaction are only buffered once it commits.
+ */
+public interface PostCounterService {
+
+    /**
+     * Buffers a change to a post's like count.
+     *
+     * @param postId the post ID
+     * @param delta change to apply (can be negative)
+     */
+    void addLikes(Long postId, int delta);
+
+    /**
+     * Buffers a change to a post's comment count.
+     *
+     * @param postId the post ID
+     * @param delta change to apply (can be negative)
+     */
+    void addComments(Long postId, int delta);
+
+    /**
+     * Buffers a change to a post's bookmark count.
+     *
+     * @param postId the post ID
+     * @param delta change to apply (can be negative)
+     */
+    void addBookmarks(Long postId, int delta);
+
+    /**
+     * Buffers a change to a comment's like count.
+     *
+     * @param commentId the comment ID
+     * @param delta change to apply (can be negative)
+     */
+    void addCommentLikes(Long commentId, int delta);
+
+    /**
+     * Overlays unflushed deltas on statistics read from the database,
+     * giving read-your-writes counts between flushes.
+     *
+     * @param stats statistics as stored in the database
+     * @return statistics including buffered deltas
+     */
+    PostStatistics merge(PostStatistics stats);
+
+    /**
+     * Writes all buffered deltas to the database in batched updates.
+     * Called periodically and once more on shutdown.
+     *
+     * @return number of posts and comments whose counters were written
+     */
+    int flush();
+}
@@ -0,0 +1,54 @@
+package com.mobile.aura.service;
+
+import com.mobile.aura.domain.content.PostDetailSnapshot;
+import com.mobile.aura.domain.content.PostStatistics;
+
+import java.util.Collection;
+
+/**
+ * Read-through cache for post detail reads.
+ * <p>
+ * Holds a size-bounded cache of {@link PostDetailSnapshot}s (post row, media, tag names)
+ * that write paths invalidate explicitly, and a separate short-TTL cache of raw
+ * post_statistics rows. Hit rates are published as {@code cache.*} meters tagged
+ * {@code cache=post.detail} and {@code cache=post.stats}.
+ */
+public interface PostDetailCacheService {
+
+    /**
+     * Get the snapshot of a post, loading it on a miss.
+     *
+     * @param postId the post ID
+     * @return the snapshot, or null if the post does not exist
+     */
+    PostDetailSnapshot snapshot(Long postId);
+
+    /**
+     * Get the persisted statistics row of a post, loading it on a miss.
+     * Callers still merge buffered counter deltas on top.
+     *
+     * @param postId the post ID
+     * @return the statistics row (zeroed if the post has none)
+     */
+    PostStatistics statistics(Long postId);
+
+    /**
+     * Drop a post's snapshot now and again after the current transaction commits,
+     * so a concurrent read cannot re-cache the pre-commit state.
+     *
+     * @param postId the post ID
+     */
+    void invalidate(Long postId);
+
+    /**
+     * Drop every snapshot (e.g. after a tag rename).
+     */
+    void invalidateAll();
+
+    /**
+     * Drop cached statistics rows that were just rewritten.
+     *
+     * @param postIds the post IDs
+     */
+    void invalidateStatistics(Collection<Long> postIds);
+}
@@ -0,0 +1,58 @@
+package com.mobile.aura.service;
+
+import com.mobile.aura.domain.content.SearchHit;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Service interface for the embedded full-text post index.
+ * Indexes title, caption and tag names of public posts with CJK-aware bigram
+ * tokenization and ranks matches by relevance, replacing LIKE '%kw%' scans.
+ * <p>
+ * The index lives in memory: it is rebuilt from the database on startup and
+ * kept current by {@link #refresh(Long)} calls from the post write paths.
+ */
+public interface PostSearchService {
+
+    /**
+     * Whether the startup rebuild has finished and {@link #search} can be used.
+     *
+     * @return true once the index is populated
+     */
+    boolean isReady();
+
+    /**
+     * Search public posts.
+     * Every query term must match; latin words also match longer words they prefix.
+     *
+     * @param keyword search keyword
+     * @param category category filter (nullable)
+     * @param cursor pagination cursor (format: "score|postId", nullable)
+     * @param limit maximum number of hits
+     * @return hits ordered by relevance
+     */
+    List<SearchHit> search(String keyword, String category, String cursor, int limit);
+
+    /**
+     * Re-read a post and its tags and update its index entry; posts that are no
+     * longer public or were deleted are removed. Inside a transaction the
+     * update is deferred until commit.
+     *
+     * @param postId the post ID
+     */
+    void refresh(Long postId);
+
+    /**
+     * Re-read many posts in batches and update their index entries, e.g. all posts of a
+     * renamed or deleted tag. Inside a transaction the update is deferred until commit.
+     *
+     * @param postIds the post IDs
+     */
+    void refreshAll(Collection<Long> postIds);
+
+    /**
+     * Rebuild the whole index from the database and swap it in.
+     */
+    void rebuild();
+}
@@ -92,6 +92,8 @@ public interface PostService {
 
     /**
      * List posts from users that the viewer follows.
+     * Served from the viewer's timeline inbox, merged with posts pulled from
+     * high-fan-out authors (see {@link TimelineService}).
      *
      * @param viewer the ID of the user viewing the feed
      * @param limit maximum number of posts to return (1-100)
@@ -100,6 +102,18 @@ public interface PostService {
      */
     PageResponse<PostCardResp> listFollowFeed(Long viewer, int limit, String cursor);
 
+    /**
+     * List the hottest public posts, ranked by heat score.
+     * Served from the in-memory hot ranking; pages stay on the ranking snapshot
+     * the client started with while it is retained.
+     *
+     * @param viewer the ID of the user viewing the feed (for filtering blocked users)
+     * @param limit maximum number of posts to return (1-100)
+     * @param cursor pagination cursor (format: "version|score|postId")
+     * @return paginated response with post cards
+     */
+    PageResponse<PostCardResp> listHot(Long viewer, int limit, String cursor);
+
     /**
      * Search public posts by keyword with optional category filter.
      *
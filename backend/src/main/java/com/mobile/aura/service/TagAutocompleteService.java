@@ -0,0 +1,61 @@
+package com.mobile.aura.service;
+
+import com.mobile.aura.domain.content.Tag;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service interface for tag autocomplete.
+ * Keeps an in-process prefix index over tags.name_lc weighted by post count,
+ * so the tag picker does not scan the tags table on every keystroke.
+ * <p>
+ * The index is loaded at startup and periodically reloaded; the change hooks
+ * below keep it current in between and apply after the surrounding transaction commits.
+ */
+public interface TagAutocompleteService {
+
+    /**
+     * Whether the index has been loaded.
+     *
+     * @return true once suggestions can be served
+     */
+    boolean isLoaded();
+
+    /**
+     * Suggest tags whose lowercase name starts with the prefix,
+     * most-used first, then alphabetically.
+     *
+     * @param prefix typed prefix (case-insensitive)
+     * @param offset number of suggestions to skip
+     * @param limit maximum number of suggestions
+     * @return matching tags
+     */
+    List<Tag> suggest(String prefix, int offset, int limit);
+
+    /**
+     * Add a new tag or re-key a renamed one; the post count is kept.
+     *
+     * @param tag saved tag
+     */
+    void onSaved(Tag tag);
+
+    /**
+     * Remove a deleted tag.
+     *
+     * @param tagId tag ID
+     */
+    void onDeleted(Long tagId);
+
+    /**
+     * Adjust post counts after post-tag associations changed.
+     *
+     * @param deltas post count change per tag ID
+     */
+    void onPostCountsChanged(Map<Long, Integer> deltas);
+
+    /**
+     * Reload the whole index from the database.
+     */
+    void reload();
+}
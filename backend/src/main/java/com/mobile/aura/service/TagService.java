@@ -45,15 +45,19 @@ public interface TagService {
 
     /**
      * Lists tags with optional keyword search and cursor-based pagination.
-     * Tags are sorted alphabetically by name (case-insensitive).
-     * The cursor is based on the normalized lowercase name (name_lc).
+     * <p>
+     * In browse mode tags are sorted alphabetically by name (case-insensitive) and
+     * the cursor is the normalized lowercase name (name_lc).
+     * In autocomplete mode the keyword is a name prefix, suggestions come from the
+     * in-memory prefix index ranked by post count, and the cursor is the rank offset.
      *
      * @param keyword optional search keyword for case-insensitive name filtering (can be null)
      * @param limit maximum number of tags to return (will be normalized to 1-100)
      * @param cursor optional pagination cursor from previous response (can be null)
+     * @param mode list mode, see {@link com.mobile.aura.constant.TagListMode} (null means browse)
      * @return paginated response containing tags, next cursor, and hasMore flag
      */
-    PageResponse<TagResp> list(String keyword, int limit, String cursor);
+    PageResponse<TagResp> list(String keyword, int limit, String cursor, String mode);
 
     /**
      * Replaces all tags associated with a specific post.
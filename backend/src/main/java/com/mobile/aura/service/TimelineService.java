@@ -0,0 +1,79 @@
+package com.mobile.aura.service;
+
+import com.mobile.aura.domain.content.Post;
+import com.mobile.aura.dto.Cursor;
+
+import java.util.List;
+
+/**
+ * Service interface for the follow timeline.
+ * <p>
+ * Publishing a post pushes its ID into every follower's inbox row set (fan-out on write),
+ * so reading the follow feed is a bounded keyset scan of one inbox instead of an
+ * {@code author_id IN (...)} query over every followee. Authors above the fan-out
+ * threshold are not pushed; their posts are pulled at read time and merged in.
+ * <p>
+ * Viewers whose inbox has not been seeded from their existing follows yet read the
+ * feed by pulling every followee's posts, as before the inboxes existed.
+ * <p>
+ * All write hooks are deferred until the surrounding transaction commits and run
+ * asynchronously.
+ */
+public interface TimelineService {
+
+    /**
+     * Push a post into its author's followers' inboxes if it is public.
+     *
+     * @param postId the post ID
+     */
+    void onPublished(Long postId);
+
+    /**
+     * Remove a post from every inbox (hidden or deleted).
+     *
+     * @param postId the post ID
+     */
+    void onRetracted(Long postId);
+
+    /**
+     * Copy the followee's recent posts into the follower's inbox.
+     *
+     * @param followerId the follower user ID
+     * @param followeeId the followed user ID
+     */
+    void onFollowed(Long followerId, Long followeeId);
+
+    /**
+     * Remove the followee's posts from the follower's inbox.
+     *
+     * @param followerId the follower user ID
+     * @param followeeId the no longer followed user ID
+     */
+    void onUnfollowed(Long followerId, Long followeeId);
+
+    /**
+     * Read one page of the viewer's follow feed.
+     * Every returned post is readable by the viewer.
+     *
+     * @param viewer the viewer user ID
+     * @param cursor pagination cursor
+     * @param limit page size; up to {@code limit + 1} posts are returned
+     * @return posts ordered by created_at DESC, id DESC
+     */
+    List<Post> readFeed(Long viewer, Cursor cursor, int limit);
+
+    /**
+     * Seed the next batches of inboxes from follow relationships that existed before
+     * the inboxes did, saving progress in job_watermark. Does nothing once complete.
+     *
+     * @return number of followers seeded in this run
+     */
+    int seedInboxes();
+
+    /**
+     * Delete inbox rows older than the retention period.
+     *
+     * @return number of deleted rows
+     */
+    int purgeExpired();
+}
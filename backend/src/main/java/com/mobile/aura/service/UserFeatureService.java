@@ -3,7 +3,9 @@ package com.mobile.aura.service;
 
 public interface UserFeatureService {
     /**
-     * Create a snapshot of user features at a specific time
+     * Create a snapshot of user features at a specific time.
+     * The latest snapshot is reused while it is within the configured TTL,
+     * or afterwards as long as the user's feature values are unchanged.
      * @param userId User ID
      * @return UserFeature ID
      */
@@ -1,46 +1,209 @@
 package com.mobile.aura.service.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mobile.aura.config.ActivityLevelProperties;
+import com.mobile.aura.config.AsyncExecutorConfig;
 import com.mobile.aura.domain.exercise.ExerciseLog;
+import com.mobile.aura.domain.health.ActivityWindow;
 import com.mobile.aura.domain.health.StepCount;
 import com.mobile.aura.domain.user.UserHealthProfile;
 import com.mobile.aura.mapper.ExerciseLogMapper;
 import com.mobile.aura.mapper.StepCountMapper;
 import com.mobile.aura.mapper.UserHealthProfileMapper;
 import com.mobile.aura.service.ActivityLevelService;
-import lombok.RequiredArgsConstructor;
+import com.mobile.aura.support.SpillableTask;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of ActivityLevelService.
  * Automatically calculates and updates user activity levels based on actual behavior data.
+ * <p>
+ * Writes only mark a user and the touched days dirty. A periodic drain hands due users to
+ * the activity pool, at most once per {@code aura.activity.debounce-ms} per user, so a phone
+ * syncing every few minutes costs one recalculation per window instead of one per sync.
+ * Each user's last 30 days are kept as an {@link ActivityWindow}; a recalculation re-reads
+ * only the dirty days, and days that age out are expired when the window advances. A user
+ * without a cached window gets one full 30-day scan.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ActivityLevelServiceImpl implements ActivityLevelService {
 
     private final StepCountMapper stepCountMapper;
     private final ExerciseLogMapper exerciseLogMapper;
     private final UserHealthProfileMapper healthProfileMapper;
+    private final TaskExecutor activityExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ActivityLevelProperties props;
 
-    private static final int ANALYSIS_DAYS = 30;
+    /** Users waiting for their debounce window, with the days written since the last run */
+    private final Map<Long, DirtyUser> dirty = new ConcurrentHashMap<>();
+    /** Days handed to the pool but not yet applied; survives a parked task being replaced */
+    private final Map<Long, Set<LocalDate>> unapplied = new ConcurrentHashMap<>();
+    private final Cache<Long, Long> lastComputedAt;
+    private final Cache<Long, ActivityWindow> windows;
+
+    private final Counter incrementalRuns;
+    private final Counter fullRuns;
+
+    public ActivityLevelServiceImpl(StepCountMapper stepCountMapper,
+                                    ExerciseLogMapper exerciseLogMapper,
+                                    UserHealthProfileMapper healthProfileMapper,
+                                    @Qualifier(AsyncExecutorConfig.ACTIVITY) TaskExecutor activityExecutor,
+                                    PlatformTransactionManager transactionManager,
+                                    ActivityLevelProperties props,
+                                    MeterRegistry registry) {
+        this.stepCountMapper = stepCountMapper;
+        this.exerciseLogMapper = exerciseLogMapper;
+        this.healthProfileMapper = healthProfileMapper;
+        this.activityExecutor = activityExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.props = props;
+
+        this.lastComputedAt = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(props.getDebounceMs()))
+                .build();
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(props.getWindowCacheSize())
+                .expireAfterWrite(Duration.ofMillis(props.getWindowTtlMs()))
+                .build();
+
+        registry.gaugeMapSize("aura.activity.dirty.users", Tags.empty(), dirty);
+        this.incrementalRuns = registry.counter("aura.activity.recalculations", "mode", "incremental");
+        this.fullRuns = registry.counter("aura.activity.recalculations", "mode", "full");
+    }
+
+    /* --------------------- Dirty Queue --------------------- */
+
+    @Override
+    public void requestRecalculation(Long userId, Collection<LocalDate> days) {
+        Set<LocalDate> touched = Set.copyOf(days);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markDirty(userId, touched);
+                }
+            });
+        } else {
+            markDirty(userId, touched);
+        }
+    }
+
+    private void markDirty(Long userId, Set<LocalDate> days) {
+        dirty.compute(userId, (id, entry) -> {
+            if (entry == null) {
+                Long computedAt = lastComputedAt.getIfPresent(id);
+                entry = new DirtyUser(computedAt == null
+                        ? System.currentTimeMillis()
+                        : computedAt + props.getDebounceMs());
+            }
+            entry.days.addAll(days);
+            return entry;
+        });
+    }
+
+    /**
+     * Hand users whose debounce window has passed to the activity pool.
+     */
+    @Scheduled(fixedDelayString = "${aura.activity.drain-interval-ms:5000}")
+    public void drainDirty() {
+        long now = System.currentTimeMillis();
+        int handed = 0;
+        Iterator<Map.Entry<Long, DirtyUser>> it = dirty.entrySet().iterator();
+        while (it.hasNext() && handed < props.getMaxUsersPerDrain()) {
+            Map.Entry<Long, DirtyUser> e = it.next();
+            Long userId = e.getKey();
+            DirtyUser entry = e.getValue();
+            if (entry.dueAt > now || !dirty.remove(userId, entry)) {
+                continue;
+            }
+            addUnapplied(userId, entry.days);
+            // Keyed by user so a backlog of parked requests holds at most one entry per user
+            activityExecutor.execute(SpillableTask.of("activity:" + userId, () -> recalculateDirty(userId)));
+            handed++;
+        }
+    }
+
+    private void recalculateDirty(Long userId) {
+        Set<LocalDate> days = unapplied.remove(userId);
+        if (days == null) {
+            // An earlier task for this user already applied these days
+            return;
+        }
+        try {
+            lastComputedAt.put(userId, System.currentTimeMillis());
+            ActivityWindow window = windows.getIfPresent(userId);
+            if (window == null) {
+                // Called on this, so the proxy's @Transactional does not apply
+                transactionTemplate.executeWithoutResult(status -> recalculateAndUpdate(userId));
+                return;
+            }
+            refreshDays(userId, window, days);
+            incrementalRuns.increment();
+            double avgDailySteps;
+            double exercisesPerWeek;
+            synchronized (window) {
+                avgDailySteps = window.avgDailySteps();
+                exercisesPerWeek = window.exercisesPerWeek();
+            }
+            updateProfile(userId, avgDailySteps, exercisesPerWeek);
+        } catch (RuntimeException e) {
+            // The window may be half-updated; rebuild it from a full scan next time
+            windows.invalidate(userId);
+            // Keep the days and retry them once the debounce window has passed
+            addUnapplied(userId, days);
+            markDirty(userId, Set.of());
+            log.error("Failed to update activity level: userId={}", userId, e);
+        }
+    }
+
+    private void addUnapplied(Long userId, Set<LocalDate> days) {
+        unapplied.merge(userId, days, (a, b) -> {
+            Set<LocalDate> merged = new HashSet<>(a);
+            merged.addAll(b);
+            return merged;
+        });
+    }
+
+    /* --------------------- Recalculation --------------------- */
 
     @Override
     @Transactional
     public void recalculateAndUpdate(Long userId) {
         // Calculate date range (last 30 days)
         LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(ANALYSIS_DAYS - 1);
+        LocalDate startDate = ActivityWindow.startDate(endDate);
 
         // Fetch step count data
         List<StepCount> stepCounts = stepCountMapper.selectList(
                 new LambdaQueryWrapper<StepCount>()
+                        .select(StepCount::getRecordDate, StepCount::getSteps)
                         .eq(StepCount::getUserId, userId)
                         .ge(StepCount::getRecordDate, startDate)
                         .le(StepCount::getRecordDate, endDate)
@@ -49,16 +212,76 @@ public class ActivityLevelServiceImpl implements ActivityLevelService {
         // Fetch exercise data
         List<ExerciseLog> exercises = exerciseLogMapper.selectList(
                 new LambdaQueryWrapper<ExerciseLog>()
+                        .select(ExerciseLog::getExerciseDate)
                         .eq(ExerciseLog::getUserId, userId)
                         .ge(ExerciseLog::getExerciseDate, startDate)
                         .le(ExerciseLog::getExerciseDate, endDate)
                         .isNull(ExerciseLog::getDeletedAt)
         );
 
-        // Calculate metrics
-        double avgDailySteps = calculateAverageDailySteps(stepCounts);
-        double exercisesPerWeek = calculateExercisesPerWeek(exercises);
+        // Build the rolling window the incremental path continues from
+        ActivityWindow window = new ActivityWindow(endDate);
+        stepCounts.forEach(s -> window.setSteps(s.getRecordDate(), s.getSteps()));
+        countByDay(exercises).forEach(window::setExercises);
+        windows.put(userId, window);
+        fullRuns.increment();
+
+        updateProfile(userId, window.avgDailySteps(), window.exercisesPerWeek());
+    }
+
+    /**
+     * Advance a user's window to today and re-read the given days, plus the days the window
+     * newly covers (normally just today).
+     */
+    private void refreshDays(Long userId, ActivityWindow window, Set<LocalDate> days) {
+        LocalDate today = LocalDate.now();
+        LocalDate previousEnd;
+        synchronized (window) {
+            previousEnd = window.getEndDate();
+        }
+        Set<LocalDate> toRead = new HashSet<>(days);
+        for (LocalDate d = previousEnd.plusDays(1); !d.isAfter(today); d = d.plusDays(1)) {
+            toRead.add(d);
+        }
+        List<LocalDate> inWindow = toRead.stream()
+                .filter(d -> !d.isBefore(ActivityWindow.startDate(today)) && !d.isAfter(today))
+                .toList();
+
+        Map<LocalDate, Integer> steps = inWindow.isEmpty() ? Map.of() : stepCountMapper.selectList(
+                        new LambdaQueryWrapper<StepCount>()
+                                .select(StepCount::getRecordDate, StepCount::getSteps)
+                                .eq(StepCount::getUserId, userId)
+                                .in(StepCount::getRecordDate, inWindow))
+                .stream()
+                .collect(Collectors.toMap(StepCount::getRecordDate, StepCount::getSteps, (a, b) -> a));
+        Map<LocalDate, Integer> exercises = inWindow.isEmpty() ? Map.of() : countByDay(exerciseLogMapper.selectList(
+                new LambdaQueryWrapper<ExerciseLog>()
+                        .select(ExerciseLog::getExerciseDate)
+                        .eq(ExerciseLog::getUserId, userId)
+                        .in(ExerciseLog::getExerciseDate, inWindow)
+                        .isNull(ExerciseLog::getDeletedAt)));
 
+        // Reads happen outside the lock; only the in-memory update is serialized
+        synchronized (window) {
+            window.advanceTo(today);
+            for (LocalDate day : inWindow) {
+                window.setSteps(day, steps.get(day));
+                window.setExercises(day, exercises.getOrDefault(day, 0));
+            }
+        }
+    }
+
+    private static Map<LocalDate, Integer> countByDay(List<ExerciseLog> exercises) {
+        return exercises.stream()
+                .collect(Collectors.groupingBy(ExerciseLog::getExerciseDate,
+                        Collectors.collectingAndThen(Collectors.counting(), Long::intValue)));
+    }
+
+    /**
+     * Store the activity level derived from the given metrics, creating the health profile
+     * when the user has none.
+     */
+    private void updateProfile(Long userId, double avgDailySteps, double exercisesPerWeek) {
         // Calculate new activity level using domain logic
         int newActivityLevel = UserHealthProfile.calculateActivityLevel(avgDailySteps, exercisesPerWeek);
 
@@ -92,38 +315,14 @@ public class ActivityLevelServiceImpl implements ActivityLevelService {
     }
 
     /**
-     * Calculate average daily steps from step count records.
-     * Returns 0 if no data available.
-     *
-     * @param stepCounts list of step count records
-     * @return average daily steps
+     * A user waiting for recalculation. Only mutated inside {@code dirty.compute}.
      */
-    private double calculateAverageDailySteps(List<StepCount> stepCounts) {
-        if (stepCounts.isEmpty()) {
-            return 0.0;
-        }
+    private static final class DirtyUser {
+        private final long dueAt;
+        private final Set<LocalDate> days = new HashSet<>();
 
-        long totalSteps = stepCounts.stream()
-                .mapToLong(StepCount::getSteps)
-                .sum();
-
-        return (double) totalSteps / stepCounts.size();
-    }
-
-    /**
-     * Calculate exercises per week from exercise log records.
-     * Normalizes to weekly frequency based on 30-day period.
-     *
-     * @param exercises list of exercise log records
-     * @return exercises per week
-     */
-    private double calculateExercisesPerWeek(List<ExerciseLog> exercises) {
-        if (exercises.isEmpty()) {
-            return 0.0;
+        private DirtyUser(long dueAt) {
+            this.dueAt = dueAt;
         }
-
-        // Convert 30-day count to weekly average
-        // 30 days ≈ 4.29 weeks
-        return exercises.size() / 4.29;
     }
 }
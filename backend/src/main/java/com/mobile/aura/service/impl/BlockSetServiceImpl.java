@@ -0,0 +1,71 @@
+package com.mobile.aura.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mobile.aura.mapper.UserBlockMapper;
+import com.mobile.aura.service.BlockSetService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Implementation of BlockSetService backed by a bounded in-process cache.
+ * Entries are evicted explicitly on block/unblock and expire after a fixed TTL
+ * as a safety net for changes made outside this process.
+ */
+@Service
+@RequiredArgsConstructor
+public class BlockSetServiceImpl implements BlockSetService {
+
+    private static final int MAX_VIEWERS = 20_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final UserBlockMapper blockMapper;
+
+    private final Cache<Long, Set<Long>> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_VIEWERS)
+            .expireAfterWrite(TTL)
+            .build();
+
+    /** {@inheritDoc} */
+    @Override
+    public Set<Long> blockSetOf(Long viewer) {
+        return Optional.ofNullable(viewer)
+                .map(v -> cache.get(v, id -> Set.copyOf(blockMapper.findBlockedEitherIds(id))))
+                .orElse(Set.of());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean blockedEither(Long a, Long b) {
+        return Optional.ofNullable(b)
+                .map(target -> blockSetOf(a).contains(target))
+                .orElse(false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void invalidate(Long blocker, Long blocked) {
+        evict(blocker, blocked);
+
+        Optional.of(TransactionSynchronizationManager.isSynchronizationActive())
+                .filter(Boolean::booleanValue)
+                .ifPresent(active -> TransactionSynchronizationManager.registerSynchronization(
+                        new TransactionSynchronization() {
+                            @Override
+                            public void afterCommit() {
+                                evict(blocker, blocked);
+                            }
+                        }));
+    }
+
+    private void evict(Long blocker, Long blocked) {
+        cache.invalidate(blocker);
+        cache.invalidate(blocked);
+    }
+}
@@ -0,0 +1,143 @@
+package com.mobile.aura.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.IdWorker;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mobile.aura.config.FeatureSnapshotProperties;
+import com.mobile.aura.domain.content.ContentFeature;
+import com.mobile.aura.domain.content.Post;
+import com.mobile.aura.domain.content.PostStatistics;
+import com.mobile.aura.domain.content.PostTag;
+import com.mobile.aura.mapper.ContentFeatureMapper;
+import com.mobile.aura.mapper.PostMapper;
+import com.mobile.aura.mapper.PostStatisticsMapper;
+import com.mobile.aura.mapper.PostTagMapper;
+import com.mobile.aura.service.ContentFeatureService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class ContentFeatureServiceImpl implements ContentFeatureService {
+
+    private final ContentFeatureMapper contentFeatureMapper;
+    private final PostMapper postMapper;
+    private final PostStatisticsMapper postStatisticsMapper;
+    private final PostTagMapper postTagMapper;
+    private final FeatureSnapshotProperties props;
+
+    /**
+     * Latest snapshot per post, so repeated exposures reuse one content_feature row
+     */
+    private final Cache<Long, FeatureSnapshotRef> latestSnapshots;
+
+    public ContentFeatureServiceImpl(ContentFeatureMapper contentFeatureMapper,
+                                     PostMapper postMapper,
+                                     PostStatisticsMapper postStatisticsMapper,
+                                     PostTagMapper postTagMapper,
+                                     FeatureSnapshotProperties props) {
+        this.contentFeatureMapper = contentFeatureMapper;
+        this.postMapper = postMapper;
+        this.postStatisticsMapper = postStatisticsMapper;
+        this.postTagMapper = postTagMapper;
+        this.props = props;
+        this.latestSnapshots = Caffeine.newBuilder()
+                .maximumSize(props.getCacheSize())
+                .build();
+    }
+
+    @Override
+    public Long createSnapshot(Long postId) {
+        return createSnapshots(List.of(postId)).get(postId);
+    }
+
+    @Override
+    public Map<Long, Long> createSnapshots(Collection<Long> postIds) {
+        Map<Long, Long> result = new HashMap<>();
+
+        // Within the TTL the latest snapshot is reused without touching the database
+        Map<Long, FeatureSnapshotRef> stale = new HashMap<>();
+        List<Long> toLoad = new ArrayList<>();
+        for (Long postId : new LinkedHashSet<>(postIds)) {
+            FeatureSnapshotRef cached = latestSnapshots.getIfPresent(postId);
+            if (cached != null && cached.isFresh(props.getSnapshotTtlMs())) {
+                result.put(postId, cached.id());
+                continue;
+            }
+            if (cached != null) {
+                stale.put(postId, cached);
+            }
+            toLoad.add(postId);
+        }
+        if (toLoad.isEmpty()) {
+            return result;
+        }
+
+        List<Post> posts = postMapper.selectBatchIds(toLoad);
+        if (posts.isEmpty()) {
+            return result;
+        }
+
+        // Fetch heat scores and tags for all posts at once
+        Map<Long, BigDecimal> heatScores = postStatisticsMapper.selectBatchIds(toLoad).stream()
+                .filter(s -> s.getHeatScore() != null)
+                .collect(Collectors.toMap(PostStatistics::getPostId, PostStatistics::getHeatScore));
+        Map<Long, String> tagIds = getTagIdsForPosts(toLoad);
+
+        List<ContentFeature> inserts = new ArrayList<>();
+        List<FeatureSnapshotRef> insertRefs = new ArrayList<>();
+        for (Post post : posts) {
+            ContentFeature feature = ContentFeature.createFromPost(post,
+                    tagIds.getOrDefault(post.getId(), ""),
+                    heatScores.getOrDefault(post.getId(), BigDecimal.ZERO));
+            List<Object> fingerprint = feature.fingerprint();
+
+            // Post unchanged since the last snapshot: keep pointing at it
+            FeatureSnapshotRef cached = stale.get(post.getId());
+            if (cached != null && cached.fingerprint().equals(fingerprint)) {
+                latestSnapshots.put(post.getId(), cached.touch());
+                result.put(post.getId(), cached.id());
+                continue;
+            }
+
+            feature.setId(IdWorker.getId());
+            inserts.add(feature);
+            insertRefs.add(FeatureSnapshotRef.of(feature.getId(), fingerprint));
+        }
+
+        if (!inserts.isEmpty()) {
+            contentFeatureMapper.insertBatch(inserts);
+            for (int i = 0; i < inserts.size(); i++) {
+                Long postId = inserts.get(i).getPostId();
+                latestSnapshots.put(postId, insertRefs.get(i));
+                result.put(postId, inserts.get(i).getId());
+            }
+            log.debug("Created {} content feature snapshots", inserts.size());
+        }
+
+        return result;
+    }
+
+    /**
+     * Get comma-separated tag IDs per post
+     */
+    private Map<Long, String> getTagIdsForPosts(List<Long> postIds) {
+        List<PostTag> postTags = postTagMapper.selectList(
+                new LambdaQueryWrapper<PostTag>().in(PostTag::getPostId, postIds)
+        );
+
+        return postTags.stream()
+                .collect(Collectors.groupingBy(PostTag::getPostId,
+                        Collectors.mapping(pt -> String.valueOf(pt.getTagId()), Collectors.joining(","))));
+    }
+}
@@ -0,0 +1,248 @@
+package com.mobile.aura.service.impl;
+
+import com.alibaba.fastjson2.JSON;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.mobile.aura.config.DailyHealthProperties;
+import com.mobile.aura.domain.health.UserDailyHealth;
+import com.mobile.aura.domain.job.JobWatermark;
+import com.mobile.aura.domain.user.User;
+import com.mobile.aura.mapper.JobWatermarkMapper;
+import com.mobile.aura.mapper.UserDailyHealthMapper;
+import com.mobile.aura.mapper.UserMapper;
+import com.mobile.aura.service.DailyHealthService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of DailyHealthService.
+ * <p>
+ * Meal and exercise days consist of many rows, so their write paths add calorie deltas to the
+ * day row. Step, water and weight days are one row each, so the rollup stores their current value.
+ * <p>
+ * The backfill walks users in ID order and rebuilds all of a batch's days in one statement,
+ * saving its position in job_watermark. Until it has passed a user, that user's rollup rows may
+ * be partial (deltas applied to days recorded before the rollup existed), so reads for them are
+ * computed from the source tables. Afterwards a missing row simply means an empty day.
+ * <p>
+ * The consistency check compares the last {@code checkDays} days of a batch of users with the
+ * source tables and rebuilds every drifted day, resuming with the next batch on the next run.
+ */
+@Slf4j
+@Service
+public class DailyHealthServiceImpl implements DailyHealthService {
+
+    static final String BACKFILL_JOB = "user_daily_health_backfill";
+
+    private final UserDailyHealthMapper healthMapper;
+    private final UserMapper userMapper;
+    private final JobWatermarkMapper watermarkMapper;
+    private final DailyHealthProperties props;
+
+    private final ReentrantLock backfillLock = new ReentrantLock();
+    private final ReentrantLock checkLock = new ReentrantLock();
+    /** Backfill progress as last seen by this instance, loaded on first use */
+    private volatile DailyHealthWatermark backfillState;
+    /** Last user ID compared by the consistency check; null restarts from the first user */
+    private Long checkCursor;
+
+    private final Counter rollupReads;
+    private final Counter sourceReads;
+    private final Counter repairs;
+
+    public DailyHealthServiceImpl(UserDailyHealthMapper healthMapper,
+                                  UserMapper userMapper,
+                                  JobWatermarkMapper watermarkMapper,
+                                  DailyHealthProperties props,
+                                  MeterRegistry registry) {
+        this.healthMapper = healthMapper;
+        this.userMapper = userMapper;
+        this.watermarkMapper = watermarkMapper;
+        this.props = props;
+
+        this.rollupReads = registry.counter("aura.daily.health.reads", "source", "rollup");
+        this.sourceReads = registry.counter("aura.daily.health.reads", "source", "tables");
+        this.repairs = registry.counter("aura.daily.health.repairs");
+    }
+
+    /* --------------------- Write Paths --------------------- */
+
+    @Override
+    public void addMealKcal(Long userId, LocalDate day, int delta) {
+        if (delta != 0) {
+            healthMapper.addKcal(userId, day, delta, 0);
+        }
+    }
+
+    @Override
+    public void addExerciseKcal(Long userId, LocalDate day, int delta) {
+        if (delta != 0) {
+            healthMapper.addKcal(userId, day, 0, delta);
+        }
+    }
+
+    @Override
+    public void refreshSteps(Long userId, Collection<LocalDate> days) {
+        if (!days.isEmpty()) {
+            healthMapper.refreshSteps(userId, days);
+        }
+    }
+
+    @Override
+    public void setWater(Long userId, LocalDate day, int waterMl) {
+        healthMapper.setWater(userId, day, waterMl);
+    }
+
+    @Override
+    public void setWeight(Long userId, LocalDate day, Double weightKg) {
+        healthMapper.setWeight(userId, day, weightKg);
+    }
+
+    /* --------------------- Reads --------------------- */
+
+    @Override
+    public UserDailyHealth getDay(Long userId, LocalDate day) {
+        if (isBackfilled(userId)) {
+            rollupReads.increment();
+            return Optional.ofNullable(healthMapper.selectOne(new LambdaQueryWrapper<UserDailyHealth>()
+                            .eq(UserDailyHealth::getUserId, userId)
+                            .eq(UserDailyHealth::getDay, day)))
+                    .orElseGet(() -> UserDailyHealth.empty(userId, day));
+        }
+        sourceReads.increment();
+        return healthMapper.selectTotals(userId, userId, day, day).stream()
+                .findFirst()
+                .orElseGet(() -> UserDailyHealth.empty(userId, day));
+    }
+
+    private boolean isBackfilled(Long userId) {
+        DailyHealthWatermark state = backfillState();
+        return state.isComplete() || (state.getLastUserId() != null && userId <= state.getLastUserId());
+    }
+
+    /* --------------------- Backfill --------------------- */
+
+    /**
+     * Periodic backfill run; stops issuing queries once this instance has seen it complete.
+     */
+    @Scheduled(fixedDelayString = "${aura.daily-health.backfill-interval-ms:10000}")
+    public void scheduledBackfill() {
+        if (props.isEnabled() && !backfillState().isComplete()) {
+            backfill();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int backfill() {
+        backfillLock.lock();
+        try {
+            // Re-read: another instance may have advanced the watermark
+            DailyHealthWatermark wm = loadBackfillState();
+            backfillState = wm;
+
+            int users = 0;
+            for (int i = 0; i < props.getBackfillBatchesPerRun() && !wm.isComplete(); i++) {
+                List<Long> ids = nextUserIds(wm.getLastUserId());
+                if (ids.isEmpty()) {
+                    wm.setComplete(true);
+                } else {
+                    Long last = ids.get(ids.size() - 1);
+                    healthMapper.rebuild(ids.get(0), last, null, null);
+                    wm.setLastUserId(last);
+                    users += ids.size();
+                }
+                watermarkMapper.upsert(BACKFILL_JOB, JSON.toJSONString(wm));
+                backfillState = new DailyHealthWatermark(wm.getLastUserId(), wm.isComplete());
+            }
+
+            if (users > 0 || wm.isComplete()) {
+                log.info("Backfilled user_daily_health for {} users, lastUserId={}, complete={}",
+                        users, wm.getLastUserId(), wm.isComplete());
+            }
+            return users;
+        } finally {
+            backfillLock.unlock();
+        }
+    }
+
+    private DailyHealthWatermark backfillState() {
+        DailyHealthWatermark state = backfillState;
+        if (state == null) {
+            state = loadBackfillState();
+            backfillState = state;
+        }
+        return state;
+    }
+
+    private DailyHealthWatermark loadBackfillState() {
+        return Optional.ofNullable(watermarkMapper.selectById(BACKFILL_JOB))
+                .map(JobWatermark::getState)
+                .map(state -> JSON.parseObject(state, DailyHealthWatermark.class))
+                .orElseGet(DailyHealthWatermark::new);
+    }
+
+    /* --------------------- Consistency Check --------------------- */
+
+    /**
+     * Periodic consistency check; only meaningful once every user has been backfilled.
+     */
+    @Scheduled(fixedDelayString = "${aura.daily-health.check-interval-ms:3600000}")
+    public void scheduledCheck() {
+        if (props.isEnabled() && backfillState().isComplete()) {
+            checkConsistency();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int checkConsistency() {
+        checkLock.lock();
+        try {
+            LocalDate to = LocalDate.now();
+            LocalDate from = to.minusDays(Math.max(props.getCheckDays(), 1) - 1L);
+
+            int repaired = 0;
+            for (int i = 0; i < props.getCheckBatchesPerRun(); i++) {
+                List<Long> ids = nextUserIds(checkCursor);
+                if (ids.isEmpty()) {
+                    checkCursor = null;
+                    break;
+                }
+                Long last = ids.get(ids.size() - 1);
+                for (UserDailyHealth drifted : healthMapper.findDrift(ids.get(0), last, from, to, props.getMaxRepairsPerBatch())) {
+                    healthMapper.rebuild(drifted.getUserId(), drifted.getUserId(), drifted.getDay(), drifted.getDay());
+                    repaired++;
+                }
+                checkCursor = last;
+            }
+
+            if (repaired > 0) {
+                repairs.increment(repaired);
+                log.warn("Repaired {} drifted user_daily_health days between {} and {}", repaired, from, to);
+            }
+            return repaired;
+        } finally {
+            checkLock.unlock();
+        }
+    }
+
+    private List<Long> nextUserIds(Long afterUserId) {
+        return userMapper.selectList(new LambdaQueryWrapper<User>()
+                        .select(User::getId)
+                        .gt(afterUserId != null, User::getId, afterUserId)
+                        .orderByAsc(User::getId)
+                        .last("LIMIT " + props.getBatchUsers()))
+                .stream()
+                .map(User::getId)
+                .toList();
+    }
+}
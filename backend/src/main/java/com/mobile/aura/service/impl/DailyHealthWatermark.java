@@ -0,0 +1,18 @@
+package com.mobile.aura.service.impl;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of the user_daily_health backfill, persisted as JSON in job_watermark.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+class DailyHealthWatermark {
+    /** Highest user ID whose rollup rows have been rebuilt from the source tables */
+    private Long lastUserId;
+    /** Set once the backfill has passed the last user; later users are maintained by the write paths */
+    private boolean complete;
+}
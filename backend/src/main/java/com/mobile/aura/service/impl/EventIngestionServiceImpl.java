@@ -0,0 +1,270 @@
+package com.mobile.aura.service.impl;
+
+import com.alibaba.fastjson2.JSON;
+import com.mobile.aura.config.EventIngestionProperties;
+import com.mobile.aura.domain.event.EventLog;
+import com.mobile.aura.mapper.EventLogMapper;
+import com.mobile.aura.service.EventIngestionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Ring-buffer implementation of EventIngestionService.
+ * <p>
+ * A single worker thread drains the bounded queue into batches and writes them with
+ * {@link EventLogMapper#insertBatch}. A failed insert, or one slower than the configured
+ * threshold, puts the pipeline into a degraded state for a cooldown period during which
+ * batches go to spill files instead of MySQL. Spill files are written to a temporary name,
+ * synced and atomically renamed, so replay only ever sees complete batches.
+ */
+@Slf4j
+@Service
+public class EventIngestionServiceImpl implements EventIngestionService {
+
+    private static final String SPILL_SUFFIX = ".jsonl";
+
+    private final EventLogMapper eventLogMapper;
+    private final EventIngestionProperties props;
+    private final BlockingQueue<EventLog> queue;
+
+    private final Counter accepted;
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter spilled;
+    private final Counter replayed;
+    private final Counter failedBatches;
+
+    private final AtomicLong spillSeq = new AtomicLong();
+    private volatile long degradedUntil;
+    private final ReentrantLock replayLock = new ReentrantLock();
+    private volatile boolean running;
+    private Thread worker;
+
+    public EventIngestionServiceImpl(EventLogMapper eventLogMapper,
+                                     EventIngestionProperties props,
+                                     MeterRegistry registry) {
+        this.eventLogMapper = eventLogMapper;
+        this.props = props;
+        this.queue = new ArrayBlockingQueue<>(props.getCapacity());
+
+        this.accepted = registry.counter("aura.events.accepted");
+        this.dropped = registry.counter("aura.events.dropped");
+        this.written = registry.counter("aura.events.written");
+        this.spilled = registry.counter("aura.events.spilled");
+        this.replayed = registry.counter("aura.events.replayed");
+        this.failedBatches = registry.counter("aura.events.batches.failed");
+        registry.gauge("aura.events.queue.depth", queue, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("event-ingest")
+                .daemon(true)
+                .start(this::runWorker);
+    }
+
+    /**
+     * Stop accepting events and write out everything still buffered.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+        log.info("Event ingestion stopped, {} events left in buffer", queue.size());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean submit(EventLog event) {
+        try {
+            if (running && queue.offer(event, props.getOfferTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                accepted.increment();
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * Periodic replay of spilled batches.
+     */
+    @Scheduled(fixedDelayString = "${aura.events.replay-interval-ms:10000}")
+    public void scheduledReplay() {
+        replaySpilled();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int replaySpilled() {
+        replayLock.lock();
+        try {
+            return replaySpilledFiles();
+        } finally {
+            replayLock.unlock();
+        }
+    }
+
+    private int replaySpilledFiles() {
+        if (!props.isSpillEnabled() || isDegraded()) {
+            return 0;
+        }
+
+        int total = 0;
+        for (Path file : listSpillFiles()) {
+            try {
+                List<EventLog> events = Files.readAllLines(file, StandardCharsets.UTF_8).stream()
+                        .filter(line -> !line.isBlank())
+                        .map(line -> JSON.parseObject(line, EventLog.class))
+                        .toList();
+                for (int from = 0; from < events.size(); from += props.getBatchSize()) {
+                    eventLogMapper.insertBatch(events.subList(from, Math.min(from + props.getBatchSize(), events.size())));
+                }
+                Files.delete(file);
+                replayed.increment(events.size());
+                total += events.size();
+            } catch (IOException | RuntimeException e) {
+                // Leave the file in place; it is retried after the cooldown
+                log.warn("Failed to replay spilled events from {}", file, e);
+                markDegraded();
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Worker loop: collect up to batchSize events, or whatever arrived within the
+     * flush interval of the first one, then write the batch.
+     */
+    private void runWorker() {
+        List<EventLog> batch = new ArrayList<>(props.getBatchSize());
+        long deadline = 0;
+
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            try {
+                long waitMs = batch.isEmpty()
+                        ? props.getFlushIntervalMs()
+                        : Math.max(0, deadline - System.currentTimeMillis());
+                EventLog event = queue.poll(waitMs, TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    if (batch.isEmpty()) {
+                        deadline = System.currentTimeMillis() + props.getFlushIntervalMs();
+                    }
+                    batch.add(event);
+                    queue.drainTo(batch, props.getBatchSize() - batch.size());
+                }
+
+                boolean due = batch.size() >= props.getBatchSize()
+                        || System.currentTimeMillis() >= deadline
+                        || !running;
+                if (!batch.isEmpty() && due) {
+                    write(batch);
+                    batch = new ArrayList<>(props.getBatchSize());
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (RuntimeException e) {
+                log.error("Event ingestion worker error", e);
+            }
+        }
+    }
+
+    /**
+     * Write one batch to MySQL, or to a spill file while the database is degraded.
+     */
+    private void write(List<EventLog> batch) {
+        if (props.isSpillEnabled() && isDegraded()) {
+            spill(batch);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            eventLogMapper.insertBatch(batch);
+            written.increment(batch.size());
+
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (elapsedMs > props.getSlowThresholdMs()) {
+                log.warn("Slow event_log batch insert: {} rows in {} ms", batch.size(), elapsedMs);
+                markDegraded();
+            }
+        } catch (RuntimeException e) {
+            failedBatches.increment();
+            log.error("Failed to insert {} events", batch.size(), e);
+            if (props.isSpillEnabled()) {
+                markDegraded();
+                spill(batch);
+            } else {
+                dropped.increment(batch.size());
+            }
+        }
+    }
+
+    /**
+     * Durably write a batch to its own spill file.
+     */
+    private void spill(List<EventLog> batch) {
+        try {
+            Path dir = Files.createDirectories(Path.of(props.getSpillDir()));
+            String name = String.format("events-%d-%06d", System.currentTimeMillis(), spillSeq.incrementAndGet());
+            Path tmp = dir.resolve(name + ".tmp");
+            List<String> lines = batch.stream().map(JSON::toJSONString).toList();
+
+            Files.write(tmp, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+            Files.move(tmp, dir.resolve(name + SPILL_SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+            spilled.increment(batch.size());
+        } catch (IOException e) {
+            log.error("Failed to spill {} events, dropping them", batch.size(), e);
+            dropped.increment(batch.size());
+        }
+    }
+
+    private List<Path> listSpillFiles() {
+        Path dir = Path.of(props.getSpillDir());
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(f -> f.getFileName().toString().endsWith(SPILL_SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            log.warn("Failed to list spill directory {}", dir, e);
+            return List.of();
+        }
+    }
+
+    private boolean isDegraded() {
+        return System.currentTimeMillis() < degradedUntil;
+    }
+
+    private void markDegraded() {
+        degradedUntil = System.currentTimeMillis() + props.getDegradedCooldownMs();
+    }
+}
@@ -2,11 +2,13 @@ package com.mobile.aura.service.impl;
 
 import com.mobile.aura.domain.event.EventLog;
 import com.mobile.aura.mapper.EventLogMapper;
+import com.mobile.aura.service.EventIngestionService;
 import com.mobile.aura.service.EventLogService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Event logging service implementation.
@@ -18,6 +20,7 @@ import org.springframework.stereotype.Service;
 public class EventLogServiceImpl implements EventLogService {
 
     private final EventLogMapper eventLogMapper;
+    private final EventIngestionService ingestionService;
 
     @Override
     public void logEvent(Long userId, Long itemId, String eventType) {
@@ -46,9 +49,20 @@ public class EventLogServiceImpl implements EventLogService {
         }
     }
 
-    @Async
     @Override
     public void logEventAsync(Long userId, Long itemId, String eventType) {
-        logEvent(userId, itemId, eventType);
+        // Buffered and written in multi-row batches; never blocks on MySQL
+        EventLog event = EventLog.create(userId, itemId, eventType);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Only actions that commit produce events (heat scoring counts them)
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ingestionService.submit(event);
+                }
+            });
+        } else {
+            ingestionService.submit(event);
+        }
     }
 }
@@ -9,6 +9,7 @@ import com.mobile.aura.dto.exercise.ExerciseRangeResp;
 import com.mobile.aura.mapper.ExerciseLogMapper;
 import com.mobile.aura.mapper.UserHealthProfileMapper;
 import com.mobile.aura.service.ActivityLevelService;
+import com.mobile.aura.service.DailyHealthService;
 import com.mobile.aura.service.ExerciseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +32,7 @@ public class ExerciseServiceImpl implements ExerciseService {
     private final ExerciseLogMapper logMapper;
     private final UserHealthProfileMapper healthProfileMapper;
     private final ActivityLevelService activityLevelService;
+    private final DailyHealthService dailyHealthService;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
@@ -43,9 +45,10 @@ public class ExerciseServiceImpl implements ExerciseService {
         // Create exercise log with accurate calorie calculation
         ExerciseLog log = ExerciseLog.createFrom(userId, req, userWeightKg);
         logMapper.insert(log);
+        dailyHealthService.addExerciseKcal(userId, log.getExerciseDate(), log.getKcal());
 
         // Trigger activity level recalculation
-        triggerActivityLevelUpdate(userId);
+        triggerActivityLevelUpdate(userId, log.getExerciseDate());
 
         return log.getId();
     }
@@ -73,6 +76,9 @@ public class ExerciseServiceImpl implements ExerciseService {
         log.ensureAccessibleBy(userId);
         log.markAsDeleted();
         logMapper.updateById(log);
+        dailyHealthService.addExerciseKcal(userId, log.getExerciseDate(), -log.getKcal());
+
+        triggerActivityLevelUpdate(userId, log.getExerciseDate());
     }
 
     @Override
@@ -126,14 +132,10 @@ public class ExerciseServiceImpl implements ExerciseService {
     }
 
     /**
-     * Trigger activity level recalculation asynchronously.
-     * Failures are logged but don't affect the main operation.
+     * Mark the user's activity level dirty for the given day, after this transaction commits.
+     * The debounced background recalculation logs its own failures.
      */
-    private void triggerActivityLevelUpdate(Long userId) {
-        try {
-            activityLevelService.recalculateAndUpdate(userId);
-        } catch (Exception e) {
-            log.error("Failed to update activity level: userId={}", userId, e);
-        }
+    private void triggerActivityLevelUpdate(Long userId, LocalDate day) {
+        activityLevelService.requestRecalculation(userId, List.of(day));
     }
 }
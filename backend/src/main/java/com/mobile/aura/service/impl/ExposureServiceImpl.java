@@ -1,87 +1,204 @@
 package com.mobile.aura.service.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.IdWorker;
+import com.mobile.aura.config.AsyncExecutorConfig;
+import com.mobile.aura.config.FeatureSnapshotProperties;
+import com.mobile.aura.constant.CommonStatusEnum;
 import com.mobile.aura.domain.content.ContentExposure;
 import com.mobile.aura.domain.content.ContentFeature;
-import com.mobile.aura.domain.content.Post;
-import com.mobile.aura.domain.content.PostTag;
+import com.mobile.aura.dto.user.ExposureBatchResp;
 import com.mobile.aura.dto.user.ExposureCreateReq;
 import com.mobile.aura.dto.user.ExposureDto;
 import com.mobile.aura.dto.user.ExposureQueryReq;
 import com.mobile.aura.mapper.ContentExposureMapper;
 import com.mobile.aura.mapper.ContentFeatureMapper;
-import com.mobile.aura.mapper.PostMapper;
-import com.mobile.aura.mapper.PostStatisticsMapper;
-import com.mobile.aura.mapper.PostTagMapper;
 import com.mobile.aura.mapper.UserProfileMapper;
 import com.mobile.aura.mapper.UserStatsMapper;
+import com.mobile.aura.service.ContentFeatureService;
 import com.mobile.aura.service.ExposureService;
 import com.mobile.aura.service.UserFeatureService;
 import com.mobile.aura.service.WeatherService;
-import lombok.RequiredArgsConstructor;
+import com.mobile.aura.support.BizException;
+import com.mobile.aura.support.CompletableTask;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class ExposureServiceImpl implements ExposureService {
+    private static final int MAX_BATCH_SIZE = 500;
+
     private final ContentExposureMapper exposureMapper;
     private final ContentFeatureMapper contentFeatureMapper;
     private final UserProfileMapper profileMapper;
     private final UserStatsMapper statsMapper;
-    private final PostMapper postMapper;
-    private final PostStatisticsMapper postStatisticsMapper;
-    private final PostTagMapper postTagMapper;
     private final WeatherService weatherService;
     private final UserFeatureService userFeatureService;
+    private final ContentFeatureService contentFeatureService;
+    private final FeatureSnapshotProperties featureProps;
+    private final TaskExecutor featuresExecutor;
+
+    public ExposureServiceImpl(ContentExposureMapper exposureMapper,
+                               ContentFeatureMapper contentFeatureMapper,
+                               UserProfileMapper profileMapper,
+                               UserStatsMapper statsMapper,
+                               WeatherService weatherService,
+                               UserFeatureService userFeatureService,
+                               ContentFeatureService contentFeatureService,
+                               FeatureSnapshotProperties featureProps,
+                               @Qualifier(AsyncExecutorConfig.FEATURES) TaskExecutor featuresExecutor) {
+        this.exposureMapper = exposureMapper;
+        this.contentFeatureMapper = contentFeatureMapper;
+        this.profileMapper = profileMapper;
+        this.statsMapper = statsMapper;
+        this.weatherService = weatherService;
+        this.userFeatureService = userFeatureService;
+        this.contentFeatureService = contentFeatureService;
+        this.featureProps = featureProps;
+        this.featuresExecutor = featuresExecutor;
+    }
 
     @Override
     public void createExposure(Long userId, ExposureCreateReq req) {
+        // Get weather: use client-provided weather if available, otherwise fetch from API
+        String weather = resolveWeather(req.getWeather(), req.getCity());
+
+        // Link the user's latest feature snapshot (reused while unchanged)
+        Long userFeatureId = userFeatureService.createSnapshot(userId);
+
+        exposureMapper.insert(buildExposure(userId, req, weather, userFeatureId));
+    }
+
+    @Override
+    public ExposureBatchResp createExposures(Long userId, List<ExposureCreateReq> reqs) {
+        if (reqs.size() > MAX_BATCH_SIZE) {
+            throw new BizException(CommonStatusEnum.INVALID_PARAM);
+        }
+        int[] statuses = new int[reqs.size()];
+        if (reqs.isEmpty()) {
+            return new ExposureBatchResp(0, statuses);
+        }
+
+        // Shared context is resolved once per batch: one user snapshot, one weather lookup per city,
+        // and one snapshot pass over all distinct posts. The user snapshot runs on the features pool
+        // while this thread builds the content snapshots; a full pool runs it here instead.
+        CompletableTask<Long> userFeature = CompletableTask.of(() -> userFeatureService.createSnapshot(userId));
+        featuresExecutor.execute(userFeature);
+        Map<String, String> weatherByCity = new HashMap<>();
+        Set<Long> postIds = reqs.stream()
+                .filter(Objects::nonNull)
+                .map(r -> parsePostId(r.getContentId()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Long> contentFeatureIds = postIds.isEmpty() ? Map.of() : contentFeatureService.createSnapshots(postIds);
+        Long userFeatureId = join(userFeature.orTimeout(featureProps.getUserSnapshotTimeoutMs(), TimeUnit.MILLISECONDS));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ContentExposure> rows = new ArrayList<>(reqs.size());
+        for (int i = 0; i < reqs.size(); i++) {
+            ExposureCreateReq req = reqs.get(i);
+            if (req == null || req.getContentId() == null || req.getContentId().isBlank()) {
+                statuses[i] = ExposureBatchResp.REJECTED;
+                continue;
+            }
+            String weather = (req.getWeather() == null || req.getWeather().isBlank())
+                    ? weatherByCity.computeIfAbsent(String.valueOf(req.getCity()), c -> weatherService.getCurrentWeatherByCity(req.getCity()))
+                    : req.getWeather();
+            Long contentFeatureId = Optional.ofNullable(parsePostId(req.getContentId()))
+                    .map(contentFeatureIds::get)
+                    .orElse(null);
+
+            ContentExposure row = newExposure(userId, req, weather, userFeatureId, contentFeatureId, now);
+            row.setId(IdWorker.getId());
+            rows.add(row);
+            statuses[i] = contentFeatureId == null ? ExposureBatchResp.RECORDED_NO_FEATURE : ExposureBatchResp.RECORDED;
+        }
+
+        if (!rows.isEmpty()) {
+            exposureMapper.insertBatch(rows);
+        }
+        return new ExposureBatchResp(rows.size(), statuses);
+    }
+
+    /**
+     * Wait for a pooled task; a task the pool dropped or that timed out fails with SERVER_BUSY.
+     */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CancellationException e) {
+            throw new BizException(CommonStatusEnum.SERVER_BUSY);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new BizException(CommonStatusEnum.SERVER_BUSY);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Build an exposure row linked to the user snapshot and the content's latest feature snapshot.
+     */
+    private ContentExposure buildExposure(Long userId, ExposureCreateReq req, String weather, Long userFeatureId) {
+        // Link content_feature snapshot (reused while the post is unchanged)
+        Long contentFeatureId = Optional.ofNullable(parsePostId(req.getContentId()))
+                .map(contentFeatureService::createSnapshot)
+                .orElse(null);
+        return newExposure(userId, req, weather, userFeatureId, contentFeatureId, LocalDateTime.now());
+    }
+
+    private static ContentExposure newExposure(Long userId, ExposureCreateReq req, String weather,
+                                               Long userFeatureId, Long contentFeatureId, LocalDateTime now) {
         ContentExposure row = new ContentExposure();
         row.setUserId(userId);
         row.setContentId(req.getContentId());
         row.setPlatform(req.getPlatform());
         row.setDevice(req.getDevice());
         row.setCity(req.getCity());
-        row.setExposureTime(LocalDateTime.now());
-        row.setWeekday(java.time.LocalDate.now().getDayOfWeek().getValue());
-
-        // Get weather: use client-provided weather if available, otherwise fetch from API
-        String weather = req.getWeather();
-        if (weather == null || weather.isBlank()) {
-            weather = weatherService.getCurrentWeatherByCity(req.getCity());
-        }
+        row.setExposureTime(now);
+        row.setWeekday(now.getDayOfWeek().getValue());
         row.setWeather(weather);
-
-        // Create user feature snapshot and link it
-        Long userFeatureId = userFeatureService.createSnapshot(userId);
         row.setUserFeatureId(userFeatureId);
+        row.setContentFeatureId(contentFeatureId);
+        return row;
+    }
 
-        // Create content_feature snapshot and link it
+    /**
+     * Content IDs that are not numeric do not refer to posts and get no content feature.
+     */
+    private static Long parsePostId(String contentId) {
         try {
-            Long postId = Long.valueOf(req.getContentId());
-            Post post = postMapper.selectById(postId);
-            if (post != null) {
-                // Fetch tag IDs for this post
-                String tagIds = getTagIdsForPost(postId);
-
-                // Fetch heat score from statistics table
-                var stats = postStatisticsMapper.selectById(postId);
-                var heatScore = stats != null ? stats.getHeatScore() : java.math.BigDecimal.ZERO;
-
-                ContentFeature feature = ContentFeature.createFromPost(post, tagIds, heatScore);
-                contentFeatureMapper.insert(feature);
-                row.setContentFeatureId(feature.getId());
-            }
+            return contentId == null ? null : Long.valueOf(contentId.trim());
         } catch (NumberFormatException ignore) {
-            // Content ID is not a valid post ID, skip content feature
+            return null;
         }
+    }
 
-        exposureMapper.insert(row);
+    private String resolveWeather(String clientWeather, String city) {
+        if (clientWeather == null || clientWeather.isBlank()) {
+            return weatherService.getCurrentWeatherByCity(city);
+        }
+        return clientWeather;
     }
 
     @Override
@@ -143,24 +260,6 @@ public class ExposureServiceImpl implements ExposureService {
         }).collect(Collectors.toList());
     }
 
-    /**
-     * Get comma-separated tag IDs for a post
-     */
-    private String getTagIdsForPost(Long postId) {
-        List<PostTag> postTags = postTagMapper.selectList(
-                new LambdaQueryWrapper<PostTag>().eq(PostTag::getPostId, postId)
-        );
-
-        if (postTags == null || postTags.isEmpty()) {
-            return "";
-        }
-
-        return postTags.stream()
-                .map(PostTag::getTagId)
-                .map(String::valueOf)
-                .collect(Collectors.joining(","));
-    }
-
     private static String limit(String s,int max){ return s==null?null:(s.length()<=max?s:s.substring(0,max)); }
 }
 
@@ -0,0 +1,32 @@
+package com.mobile.aura.service.impl;
+
+import java.util.List;
+
+/**
+ * Reference to the latest persisted feature snapshot of a user or post.
+ * Used to reuse a snapshot row instead of inserting an identical one per exposure.
+ *
+ * @param id snapshot row ID
+ * @param fingerprint the snapshot's feature values
+ * @param verifiedAt epoch millis when the source rows were last read and matched
+ */
+record FeatureSnapshotRef(Long id, List<Object> fingerprint, long verifiedAt) {
+
+    static FeatureSnapshotRef of(Long id, List<Object> fingerprint) {
+        return new FeatureSnapshotRef(id, fingerprint, System.currentTimeMillis());
+    }
+
+    /**
+     * Whether the snapshot can be reused without re-reading its source rows.
+     */
+    boolean isFresh(long ttlMs) {
+        return System.currentTimeMillis() - verifiedAt < ttlMs;
+    }
+
+    /**
+     * Same snapshot, re-verified now.
+     */
+    FeatureSnapshotRef touch() {
+        return of(id, fingerprint);
+    }
+}
@@ -1,21 +1,60 @@
 package com.mobile.aura.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mobile.aura.config.GeoLocationProperties;
 import com.mobile.aura.dto.external.IpApiResponse;
 import com.mobile.aura.service.GeoLocationService;
+import com.mobile.aura.support.IpRangeIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.time.Duration;
+
 /**
  * Implementation of GeoLocationService that uses ip-api.com for IP-based geolocation
  * Falls back to IP-based geolocation when client doesn't provide location
+ * <p>
+ * Lookups first consult the optional offline CIDR index, then a cache of network results
+ * keyed by the /24 (IPv4) or /48 (IPv6) prefix, and only then call the API, with timeouts.
+ * Failed network lookups are not cached.
  */
 @Slf4j
 @Service
 public class GeoLocationServiceImpl implements GeoLocationService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final GeoLocationProperties props;
+    private final RestTemplate restTemplate;
+    private final Cache<String, LocationInfo> prefixCache;
+    private final IpRangeIndex offlineIndex;
+
+    public GeoLocationServiceImpl(GeoLocationProperties props, MeterRegistry registry) {
+        this.props = props;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(props.getConnectTimeoutMs());
+        requestFactory.setReadTimeout(props.getReadTimeoutMs());
+        this.restTemplate = new RestTemplate(requestFactory);
+
+        this.prefixCache = Caffeine.newBuilder()
+                .maximumSize(props.getCacheSize())
+                .expireAfterWrite(Duration.ofMillis(props.getCacheTtlMs()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, prefixCache, "geo.ip");
+
+        this.offlineIndex = loadOfflineIndex(props.getOfflineDbPath());
+    }
 
     @Override
     public String getClientIp(HttpServletRequest request) {
@@ -40,19 +79,57 @@ public class GeoLocationServiceImpl implements GeoLocationService {
 
     @Override
     public LocationInfo getLocationFromIp(String ip) {
+        long ipv4 = IpRangeIndex.parseIpv4(ip);
+
         // Handle localhost and private IPs
         if (ip == null || ip.isEmpty() ||
             ip.equals("0:0:0:0:0:0:0:1") ||
-            ip.equals("127.0.0.1") ||
-            ip.startsWith("192.168.") ||
-            ip.startsWith("10.") ||
-            ip.equals("unknown")) {
+            ip.equals("::1") ||
+            ip.equals("unknown") ||
+            isPrivateIpv4(ipv4)) {
             log.debug("Localhost or private IP detected: {}, returning default location", ip);
             return LocationInfo.unknown();
         }
 
+        if (offlineIndex != null && ipv4 >= 0) {
+            LocationInfo local = offlineIndex.find(ipv4);
+            if (local != null) {
+                return local;
+            }
+        }
+
+        String prefix = ipv4 >= 0 ? "v4:" + (ipv4 >>> 8) : ipv6Prefix(ip);
+        if (prefix == null) {
+            log.debug("Not an IP address: {}, returning default location", ip);
+            return LocationInfo.unknown();
+        }
+        LocationInfo cached = prefixCache.getIfPresent(prefix);
+        if (cached != null) {
+            return cached;
+        }
+
+        LocationInfo resolved = fetch(ip);
+        if (resolved != null) {
+            prefixCache.put(prefix, resolved);
+            return resolved;
+        }
+        return LocationInfo.unknown();
+    }
+
+    @Override
+    public LocationInfo getLocationFromRequest(HttpServletRequest request) {
+        String ip = getClientIp(request);
+        return getLocationFromIp(ip);
+    }
+
+    /**
+     * Call ip-api.com.
+     *
+     * @return location, or null when the lookup failed
+     */
+    private LocationInfo fetch(String ip) {
         try {
-            String url = "http://ip-api.com/json/" + ip + "?fields=status,country,countryCode,region,regionName,city";
+            String url = props.getBaseUrl() + ip + "?fields=status,country,countryCode,region,regionName,city";
             IpApiResponse response = restTemplate.getForObject(url, IpApiResponse.class);
 
             if (response != null && "success".equals(response.getStatus())) {
@@ -62,13 +139,63 @@ public class GeoLocationServiceImpl implements GeoLocationService {
         } catch (Exception e) {
             log.warn("Failed to get location for IP {}: {}", ip, e.getMessage());
         }
+        return null;
+    }
 
-        return LocationInfo.unknown();
+    /**
+     * 10/8, 127/8, 172.16/12 and 192.168/16.
+     */
+    private static boolean isPrivateIpv4(long ipv4) {
+        return ipv4 >= 0 && ((ipv4 >>> 24) == 10
+                || (ipv4 >>> 24) == 127
+                || (ipv4 >>> 20) == 0xAC1
+                || (ipv4 >>> 16) == 0xC0A8);
     }
 
-    @Override
-    public LocationInfo getLocationFromRequest(HttpServletRequest request) {
-        String ip = getClientIp(request);
-        return getLocationFromIp(ip);
+    /**
+     * Cache key for the /48 of an IPv6 literal; null when the text is not one.
+     * InetAddress only parses text as a literal when it starts with a hex digit or ':' and
+     * resolves anything else through DNS, so text with other characters is rejected first.
+     */
+    private static String ipv6Prefix(String ip) {
+        if (ip.indexOf(':') < 0 || !isIpv6LiteralText(ip)) {
+            return null;
+        }
+        try {
+            if (InetAddress.getByName(ip) instanceof Inet6Address v6) {
+                byte[] b = v6.getAddress();
+                return String.format("v6:%02x%02x:%02x%02x:%02x%02x", b[0], b[1], b[2], b[3], b[4], b[5]);
+            }
+        } catch (UnknownHostException e) {
+            // not an IPv6 literal
+        }
+        return null;
+    }
+
+    /**
+     * Whether the text only holds characters of an IPv6 literal (ASCII hex digits, ':' and
+     * the '.' of an embedded IPv4 address).
+     */
+    private static boolean isIpv6LiteralText(String ip) {
+        for (int i = 0; i < ip.length(); i++) {
+            char c = ip.charAt(i);
+            boolean hex = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+            if (!hex && c != ':' && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static IpRangeIndex loadOfflineIndex(String path) {
+        if (path == null || path.isBlank()) {
+            return null;
+        }
+        try {
+            return IpRangeIndex.load(Path.of(path));
+        } catch (IOException e) {
+            log.warn("Offline IP database {} could not be loaded, using network lookups only: {}", path, e.getMessage());
+            return null;
+        }
     }
 }
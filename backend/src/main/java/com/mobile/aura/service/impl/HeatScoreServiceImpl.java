@@ -0,0 +1,245 @@
+package com.mobile.aura.service.impl;
+
+import com.alibaba.fastjson2.JSON;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.mobile.aura.config.HeatScoreProperties;
+import com.mobile.aura.constant.PostVisibility;
+import com.mobile.aura.domain.content.Post;
+import com.mobile.aura.domain.content.PostStatistics;
+import com.mobile.aura.domain.event.EventLog;
+import com.mobile.aura.domain.event.ItemEventCount;
+import com.mobile.aura.domain.job.JobWatermark;
+import com.mobile.aura.mapper.EventLogMapper;
+import com.mobile.aura.mapper.JobWatermarkMapper;
+import com.mobile.aura.mapper.PostMapper;
+import com.mobile.aura.mapper.PostStatisticsMapper;
+import com.mobile.aura.service.HeatScoreService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Incremental implementation of HeatScoreService.
+ * <p>
+ * Heat is {@code log10(1 + engagement) + log10(2) * (publishTime - EPOCH) / halfLife}.
+ * Publishing one half-life later is worth the same as doubling engagement, which is
+ * exponential time decay expressed in log space: the ranking of two posts never changes
+ * while their inputs stay the same, so untouched posts never need rescoring.
+ * <p>
+ * Changed posts are found through three watermarks:
+ * <ul>
+ *   <li>post_statistics rows whose updated_at moved (counter flushes bump it),
+ *       scanned with an (updated_at, post_id) keyset;</li>
+ *   <li>event_log rows past the last consumed ID, up to the highest ID seen at least
+ *       the commit lag ago (event timestamps are set before the batched insert, so
+ *       neither they nor commit order follow ID order);</li>
+ *   <li>posts whose events slid out of the trailing event window since the last run.</li>
+ * </ul>
+ * The first run has no watermark and walks all statistics rows, spread across runs
+ * by {@code maxBatchesPerRun}. The watermark is only saved after the scores are written.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HeatScoreServiceImpl implements HeatScoreService {
+
+    static final String JOB_NAME = "post_heat_score";
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final double LOG10_2 = Math.log10(2);
+
+    private final PostStatisticsMapper statisticsMapper;
+    private final PostMapper postMapper;
+    private final EventLogMapper eventLogMapper;
+    private final JobWatermarkMapper watermarkMapper;
+    private final HeatScoreProperties props;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    /**
+     * Periodic incremental scoring run.
+     */
+    @Scheduled(fixedDelayString = "${aura.heat.interval-ms:60000}")
+    public void scheduledRefresh() {
+        if (props.isEnabled()) {
+            refresh();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int refresh() {
+        refreshLock.lock();
+        try {
+            return refreshChanged();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private int refreshChanged() {
+        HeatScoreWatermark wm = loadWatermark();
+        LocalDateTime until = LocalDateTime.now().minus(Duration.ofMillis(props.getCommitLagMs()));
+        LocalDateTime windowStart = until.minusDays(props.getEventWindowDays());
+
+        boolean ceilingSettled = wm.getEventCeilingAt() != null && !wm.getEventCeilingAt().isAfter(until);
+        Long eventCeiling = ceilingSettled ? wm.getEventCeilingId() : null;
+
+        // Sorted so concurrent writers lock statistics rows in the same order
+        Set<Long> changed = new TreeSet<>();
+        for (int i = 0; i < props.getMaxBatchesPerRun(); i++) {
+            boolean moreStats = collectChangedStats(wm, until, changed);
+            boolean moreEvents = collectNewEvents(wm, eventCeiling, changed);
+            if (!moreStats && !moreEvents) {
+                break;
+            }
+        }
+        // Once the cursor has caught up, take a new ceiling; it is consumed by a later run
+        boolean ceilingReached = wm.getEventCeilingId() == null
+                || (wm.getEventId() != null && wm.getEventId() >= wm.getEventCeilingId());
+        if (ceilingReached && (wm.getEventCeilingAt() == null || ceilingSettled)) {
+            wm.setEventCeilingId(eventLogMapper.selectMaxId());
+            wm.setEventCeilingAt(LocalDateTime.now());
+        }
+        if (wm.getWindowStart() != null && wm.getWindowStart().isBefore(windowStart)) {
+            changed.addAll(eventLogMapper.listItemIdsBetween(wm.getWindowStart(), windowStart));
+        }
+        wm.setWindowStart(windowStart);
+
+        int scored = rescore(changed, windowStart);
+        watermarkMapper.upsert(JOB_NAME, JSON.toJSONString(wm));
+
+        if (scored > 0) {
+            log.info("Rescored heat for {} posts", scored);
+        }
+        return scored;
+    }
+
+    /**
+     * Advance the post_statistics cursor by one batch.
+     *
+     * @return true if the batch was full and more rows may be waiting
+     */
+    private boolean collectChangedStats(HeatScoreWatermark wm, LocalDateTime until, Set<Long> changed) {
+        List<PostStatistics> rows = statisticsMapper.listUpdatedAfter(
+                wm.getStatsUpdatedAt(), wm.getStatsPostId(), until, props.getBatchSize());
+        if (rows.isEmpty()) {
+            return false;
+        }
+        rows.forEach(r -> changed.add(r.getPostId()));
+        PostStatistics last = rows.get(rows.size() - 1);
+        wm.setStatsUpdatedAt(last.getUpdatedAt());
+        wm.setStatsPostId(last.getPostId());
+        return rows.size() == props.getBatchSize();
+    }
+
+    /**
+     * Advance the event_log cursor by one batch, up to {@code ceiling} (inclusive).
+     *
+     * @return true if the batch was full and more rows may be waiting
+     */
+    private boolean collectNewEvents(HeatScoreWatermark wm, Long ceiling, Set<Long> changed) {
+        if (ceiling == null) {
+            return false;
+        }
+        List<EventLog> events = eventLogMapper.selectList(new LambdaQueryWrapper<EventLog>()
+                .select(EventLog::getId, EventLog::getItemId)
+                .gt(wm.getEventId() != null, EventLog::getId, wm.getEventId())
+                .le(EventLog::getId, ceiling)
+                .orderByAsc(EventLog::getId)
+                .last("LIMIT " + props.getBatchSize()));
+        if (events.isEmpty()) {
+            return false;
+        }
+        events.forEach(e -> changed.add(e.getItemId()));
+        wm.setEventId(events.get(events.size() - 1).getId());
+        return events.size() == props.getBatchSize();
+    }
+
+    /**
+     * Recompute and write heat for the given posts in chunks, one UPDATE per chunk.
+     */
+    private int rescore(Collection<Long> postIds, LocalDateTime windowStart) {
+        List<Long> ids = new ArrayList<>(postIds);
+        int scored = 0;
+        for (int from = 0; from < ids.size(); from += props.getBatchSize()) {
+            List<Long> chunk = ids.subList(from, Math.min(from + props.getBatchSize(), ids.size()));
+
+            Map<Long, Post> posts = postMapper.selectBatchIds(chunk).stream()
+                    .collect(Collectors.toMap(Post::getId, Function.identity()));
+            Map<Long, Double> activity = eventActivity(chunk, windowStart);
+
+            List<PostStatistics> scores = statisticsMapper.selectBatchIds(chunk).stream()
+                    .map(s -> PostStatistics.builder()
+                            .postId(s.getPostId())
+                            .heatScore(score(posts.get(s.getPostId()), s, activity.getOrDefault(s.getPostId(), 0.0)))
+                            .build())
+                    .toList();
+            if (!scores.isEmpty()) {
+                statisticsMapper.updateHeatScores(scores);
+                scored += scores.size();
+            }
+        }
+        return scored;
+    }
+
+    /**
+     * Weighted event count per post inside the trailing window.
+     */
+    private Map<Long, Double> eventActivity(List<Long> postIds, LocalDateTime windowStart) {
+        Map<String, Double> weights = props.getEventWeights();
+        if (weights.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Double> activity = new HashMap<>();
+        for (ItemEventCount c : eventLogMapper.countByItemsSince(postIds, weights.keySet(), windowStart)) {
+            activity.merge(c.getItemId(), c.getCnt() * weights.getOrDefault(c.getEventType(), 0.0), Double::sum);
+        }
+        return activity;
+    }
+
+    /**
+     * Heat of one post; deleted or non-public posts drop to zero.
+     */
+    private BigDecimal score(Post post, PostStatistics stats, double eventActivity) {
+        if (post == null || post.isDeleted() || !Objects.equals(post.getVisibility(), PostVisibility.PUBLIC)) {
+            return BigDecimal.ZERO;
+        }
+        double engagement = props.getLikeWeight() * nz(stats.getLikeCount())
+                + props.getCommentWeight() * nz(stats.getCommentCount())
+                + props.getBookmarkWeight() * nz(stats.getBookmarkCount())
+                + eventActivity;
+        LocalDateTime published = Optional.ofNullable(post.getCreatedAt()).orElse(stats.getCreatedAt());
+        double halfLifeSeconds = props.getHalfLifeHours() * 3600;
+        double recency = LOG10_2 * Duration.between(EPOCH, published).getSeconds() / halfLifeSeconds;
+        return BigDecimal.valueOf(Math.log10(1 + engagement) + recency).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private HeatScoreWatermark loadWatermark() {
+        return Optional.ofNullable(watermarkMapper.selectById(JOB_NAME))
+                .map(JobWatermark::getState)
+                .map(state -> JSON.parseObject(state, HeatScoreWatermark.class))
+                .orElseGet(HeatScoreWatermark::new);
+    }
+
+    private static int nz(Integer v) {
+        return v == null ? 0 : v;
+    }
+}
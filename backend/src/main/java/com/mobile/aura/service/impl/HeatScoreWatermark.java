@@ -0,0 +1,25 @@
+package com.mobile.aura.service.impl;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cursor state of the heat-score job, persisted as JSON in job_watermark.
+ */
+@Data
+class HeatScoreWatermark {
+    /** Keyset cursor over post_statistics (updated_at, post_id) */
+    private LocalDateTime statsUpdatedAt;
+    private Long statsPostId;
+    /** Highest event_log ID already consumed */
+    private Long eventId;
+    /**
+     * Highest event_log ID seen at {@code eventCeilingAt}. Events are only consumed up to it once
+     * it is older than the commit lag, so a lower ID that commits late is not skipped
+     */
+    private Long eventCeilingId;
+    private LocalDateTime eventCeilingAt;
+    /** Start of the event window at the previous run; events older than it no longer count */
+    private LocalDateTime windowStart;
+}
@@ -0,0 +1,78 @@
+package com.mobile.aura.service.impl;
+
+import com.mobile.aura.config.HotFeedProperties;
+import com.mobile.aura.domain.content.HotRanking;
+import com.mobile.aura.mapper.PostStatisticsMapper;
+import com.mobile.aura.service.HotRankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of HotRankingService.
+ * Publishes a new immutable {@link HotRanking} on every rebuild and retains the
+ * last few versions for in-flight pagination; readers never take a lock.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HotRankingServiceImpl implements HotRankingService {
+
+    private final PostStatisticsMapper statisticsMapper;
+    private final HotFeedProperties props;
+
+    private final ConcurrentSkipListMap<Long, HotRanking> versions = new ConcurrentSkipListMap<>();
+    private volatile HotRanking current = HotRanking.empty();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /** {@inheritDoc} */
+    @Override
+    public HotRanking current() {
+        return current;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public HotRanking versionOrCurrent(long version) {
+        HotRanking ranking = versions.get(version);
+        return ranking == null ? current : ranking;
+    }
+
+    /**
+     * Periodic rebuild; also runs right after startup.
+     */
+    @Scheduled(fixedDelayString = "${aura.hot.rebuild-interval-ms:30000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            publishNewVersion();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void publishNewVersion() {
+        // Versions are wall-clock based so cursors from before a restart do not alias a new snapshot
+        long version = Math.max(current.getVersion() + 1, System.currentTimeMillis());
+        HotRanking ranking = HotRanking.of(version, statisticsMapper.listTopHeat(props.getTopK()));
+
+        versions.put(version, ranking);
+        current = ranking;
+        while (versions.size() > props.getRetainedVersions()) {
+            Map.Entry<Long, HotRanking> oldest = versions.pollFirstEntry();
+            log.debug("Evicted hot ranking version {}", oldest.getKey());
+        }
+        log.debug("Rebuilt hot ranking version {} with {} posts", version, ranking.size());
+    }
+}
@@ -0,0 +1,27 @@
+package com.mobile.aura.service.impl;
+
+import com.mobile.aura.domain.content.Post;
+import com.mobile.aura.support.CjkBigramTokenizer;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Search document of one post: weighted term frequencies plus the fields used for filtering.
+ * Title terms count three times, tag terms twice, caption terms once.
+ */
+record IndexedPost(long postId, String category, Map<String, Integer> terms) {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int TAG_WEIGHT = 2;
+
+    static IndexedPost of(Post post, Collection<String> tagNames) {
+        Map<String, Integer> terms = new HashMap<>();
+        CjkBigramTokenizer.indexTerms(post.getTitle()).forEach((t, tf) -> terms.merge(t, tf * TITLE_WEIGHT, Integer::sum));
+        CjkBigramTokenizer.indexTerms(post.getCaption()).forEach((t, tf) -> terms.merge(t, tf, Integer::sum));
+        tagNames.forEach(name ->
+                CjkBigramTokenizer.indexTerms(name).forEach((t, tf) -> terms.merge(t, tf * TAG_WEIGHT, Integer::sum)));
+        return new IndexedPost(post.getId(), post.getCategory(), Map.copyOf(terms));
+    }
+}
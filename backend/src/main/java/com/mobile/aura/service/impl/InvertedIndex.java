@@ -0,0 +1,115 @@
+package com.mobile.aura.service.impl;
+
+import com.mobile.aura.domain.content.SearchHit;
+import com.mobile.aura.dto.ScoreCursor;
+import com.mobile.aura.support.CjkBigramTokenizer.QueryTerm;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory inverted index: term → (postId → weighted term frequency).
+ * <p>
+ * Terms are kept sorted so latin query words can be matched as prefixes with a range scan.
+ * Writers must be serialized by the caller; readers run concurrently without locking
+ * and may observe a document half-replaced, which only affects that one result.
+ */
+final class InvertedIndex {
+
+    /** BM25 term-frequency saturation */
+    private static final double K1 = 1.2;
+    private static final double SCORE_SCALE = 1_000_000;
+
+    private final ConcurrentSkipListMap<String, Map<Long, Integer>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Long, IndexedPost> docs = new ConcurrentHashMap<>();
+
+    void put(IndexedPost doc) {
+        remove(doc.postId());
+        docs.put(doc.postId(), doc);
+        doc.terms().forEach((term, tf) ->
+                postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(doc.postId(), tf));
+    }
+
+    void remove(long postId) {
+        IndexedPost old = docs.remove(postId);
+        if (old == null) {
+            return;
+        }
+        old.terms().keySet().forEach(term -> postings.computeIfPresent(term, (t, ids) -> {
+            ids.remove(postId);
+            return ids.isEmpty() ? null : ids;
+        }));
+    }
+
+    int size() {
+        return docs.size();
+    }
+
+    /**
+     * Rank documents containing every query term.
+     *
+     * @param terms query terms (must not be empty)
+     * @param category category filter (nullable)
+     * @param after keyset cursor of the previous page
+     * @param limit maximum number of hits
+     * @return hits ordered by score DESC, postId DESC
+     */
+    List<SearchHit> search(List<QueryTerm> terms, String category, ScoreCursor after, int limit) {
+        // Intersect from the rarest term so the candidate set shrinks as fast as possible
+        List<Map<Long, Integer>> matches = terms.stream()
+                .map(this::match)
+                .sorted(Comparator.comparingInt(Map::size))
+                .toList();
+
+        int docCount = Math.max(1, docs.size());
+        Map<Long, Double> scores = null;
+        for (Map<Long, Integer> tfs : matches) {
+            double idf = Math.log(1 + (double) docCount / Math.max(1, tfs.size()));
+            Map<Long, Double> next = new HashMap<>();
+            Map<Long, Double> previous = scores;
+            tfs.forEach((postId, tf) -> {
+                Double base = previous == null ? Double.valueOf(0) : previous.get(postId);
+                if (base != null) {
+                    next.put(postId, base + idf * tf * (K1 + 1) / (tf + K1));
+                }
+            });
+            scores = next;
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>();
+        Objects.requireNonNull(scores).forEach((postId, score) -> {
+            IndexedPost doc = docs.get(postId);
+            long scaled = Math.round(score * SCORE_SCALE);
+            if (doc != null
+                    && (category == null || category.isBlank() || category.equals(doc.category()))
+                    && after.isBefore(scaled, postId)) {
+                hits.add(new SearchHit(postId, scaled));
+            }
+        });
+        hits.sort(Comparator.comparingLong(SearchHit::getScore).thenComparingLong(SearchHit::getPostId).reversed());
+        return hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+
+    /**
+     * Posting list of one query term; prefix terms merge every indexed term they prefix.
+     */
+    private Map<Long, Integer> match(QueryTerm term) {
+        if (!term.prefix()) {
+            return postings.getOrDefault(term.term(), Map.of());
+        }
+        Map<Long, Integer> merged = new HashMap<>();
+        postings.subMap(term.term(), true, term.term() + Character.MAX_VALUE, true)
+                .values()
+                .forEach(ids -> ids.forEach((postId, tf) -> merged.merge(postId, tf, Integer::sum)));
+        return merged;
+    }
+}
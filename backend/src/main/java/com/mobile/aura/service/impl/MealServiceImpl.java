@@ -10,6 +10,7 @@ import com.mobile.aura.dto.meal.MealAddFromSourceReq;
 import com.mobile.aura.dto.meal.MealEditReq;
 import com.mobile.aura.mapper.MealLogMapper;
 import com.mobile.aura.mapper.UserFoodItemMapper;
+import com.mobile.aura.service.DailyHealthService;
 import com.mobile.aura.service.MealService;
 import com.mobile.aura.support.BizException;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +27,7 @@ public class MealServiceImpl implements MealService {
 
     private final MealLogMapper mealLogMapper;
     private final UserFoodItemMapper userFoodItemMapper;
+    private final DailyHealthService dailyHealthService;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
@@ -57,6 +59,7 @@ public class MealServiceImpl implements MealService {
 
         MealLog mealLog = MealLog.createFromSource(userId, request, userFoodItem);
         mealLogMapper.insert(mealLog);
+        dailyHealthService.addMealKcal(userId, mealLog.getMealDate(), mealLog.getKcal());
         return mealLog.getId();
     }
 
@@ -65,6 +68,7 @@ public class MealServiceImpl implements MealService {
     public Long addFreeInput(Long userId, MealAddFreeInputReq request) {
         MealLog mealLog = MealLog.createFromFreeInput(userId, request);
         mealLogMapper.insert(mealLog);
+        dailyHealthService.addMealKcal(userId, mealLog.getMealDate(), mealLog.getKcal());
         return mealLog.getId();
     }
 
@@ -85,8 +89,17 @@ public class MealServiceImpl implements MealService {
             userFoodItem = userFoodItemMapper.selectById(mealLog.getSourceId());
         }
 
+        // The edit may move the meal to another day as well as change its calories
+        LocalDate oldDate = mealLog.getMealDate();
+        int oldKcal = mealLog.getKcal();
         mealLog.updateFromRequest(request, userFoodItem);
         mealLogMapper.updateById(mealLog);
+        if (oldDate.equals(mealLog.getMealDate())) {
+            dailyHealthService.addMealKcal(userId, oldDate, mealLog.getKcal() - oldKcal);
+        } else {
+            dailyHealthService.addMealKcal(userId, oldDate, -oldKcal);
+            dailyHealthService.addMealKcal(userId, mealLog.getMealDate(), mealLog.getKcal());
+        }
     }
 
     @Override
@@ -101,5 +114,6 @@ public class MealServiceImpl implements MealService {
         mealLog.ensureAccessibleBy(userId);
         mealLog.markAsDeleted();
         mealLogMapper.updateById(mealLog);
+        dailyHealthService.addMealKcal(userId, mealLog.getMealDate(), -mealLog.getKcal());
     }
 }
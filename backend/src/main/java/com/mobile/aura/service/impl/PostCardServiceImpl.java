@@ -0,0 +1,65 @@
+package com.mobile.aura.service.impl;
+
+import com.mobile.aura.domain.content.Post;
+import com.mobile.aura.domain.content.PostCardBatch;
+import com.mobile.aura.mapper.PostMediaMapper;
+import com.mobile.aura.mapper.PostStatisticsMapper;
+import com.mobile.aura.service.BlockSetService;
+import com.mobile.aura.service.PostCardService;
+import com.mobile.aura.service.PostCounterService;
+import com.mobile.aura.service.UserProfileService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Implementation of PostCardService.
+ * Replaces the per-card cover and statistics lookups with two {@code IN (...)}
+ * queries per page (cover media and statistics) plus one cached author lookup;
+ * block status comes from the viewer's cached block set and unflushed counter
+ * deltas are merged in.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostCardServiceImpl implements PostCardService {
+
+    private final PostMediaMapper mediaMapper;
+    private final PostStatisticsMapper statisticsMapper;
+    private final BlockSetService blockSetService;
+    private final PostCounterService counterService;
+    private final UserProfileService userProfileService;
+
+    /** {@inheritDoc} */
+    @Override
+    public PostCardBatch hydrate(Long viewer, List<Post> posts) {
+        return Optional.ofNullable(posts)
+                .filter(list -> !list.isEmpty())
+                .map(list -> {
+                    Set<Long> blockedAuthors = blockSetService.blockSetOf(viewer);
+                    List<Long> visibleIds = list.stream()
+                            .filter(post -> !blockedAuthors.contains(post.getAuthorId()))
+                            .map(Post::getId)
+                            .toList();
+
+                    return Optional.of(visibleIds)
+                            .filter(ids -> !ids.isEmpty())
+                            .map(ids -> PostCardBatch.of(
+                                    list,
+                                    blockedAuthors,
+                                    mediaMapper.listCoversByPostIds(ids),
+                                    statisticsMapper.selectBatchIds(ids).stream()
+                                            .map(counterService::merge)
+                                            .toList(),
+                                    userProfileService.getBasicInfoBatch(list.stream()
+                                            .map(Post::getAuthorId)
+                                            .filter(author -> !blockedAuthors.contains(author))
+                                            .distinct()
+                                            .toList())))
+                            .orElseGet(PostCardBatch::empty);
+                })
+                .orElseGet(PostCardBatch::empty);
+    }
+}
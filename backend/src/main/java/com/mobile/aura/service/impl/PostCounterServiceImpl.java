@@ -0,0 +1,316 @@
+package com.mobile.aura.service.impl;
+
+import com.mobile.aura.config.PostCounterProperties;
+import com.mobile.aura.domain.content.CommentLikeDelta;
+import com.mobile.aura.domain.content.PostCounterDelta;
+import com.mobile.aura.domain.content.PostStatistics;
+import com.mobile.aura.mapper.PostCommentMapper;
+import com.mobile.aura.mapper.PostStatisticsMapper;
+import com.mobile.aura.service.PostCounterService;
+import com.mobile.aura.service.PostDetailCacheService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind implementation of PostCounterService.
+ * <p>
+ * Deltas accumulate in a generation of {@link LongAdder}s keyed by post or comment ID.
+ * A flush swaps in a fresh generation under a short write lock (writers hold the shared
+ * read lock only while adding), so no increment can land in a generation that is already
+ * being written out. The drained generation stays visible to readers until its batched
+ * {@code UPDATE ... CASE} statements have run; each post is hidden from it as soon as the
+ * chunk containing it is written, so a statistics row read after the UPDATE does not get
+ * the same delta added a second time.
+ * <p>
+ * Both generations are published together as one immutable {@link Buffers} pair, so a
+ * reader never sees a half-done swap (the same generation as pending and flushing).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCounterServiceImpl implements PostCounterService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final PostStatisticsMapper statisticsMapper;
+    private final PostCommentMapper commentMapper;
+    private final PostDetailCacheService postDetailCache;
+    private final PostCounterProperties props;
+
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Buffers buffers = new Buffers(new Generation(), new Generation());
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private ScheduledExecutorService flusher;
+
+    /** {@inheritDoc} */
+    @Override
+    public void addLikes(Long postId, int delta) {
+        record(gen -> gen.post(postId).likes.add(delta));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addComments(Long postId, int delta) {
+        record(gen -> gen.post(postId).comments.add(delta));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addBookmarks(Long postId, int delta) {
+        record(gen -> gen.post(postId).bookmarks.add(delta));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addCommentLikes(Long commentId, int delta) {
+        record(gen -> gen.commentLikes.computeIfAbsent(commentId, id -> new LongAdder()).add(delta));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public PostStatistics merge(PostStatistics stats) {
+        Buffers current = buffers;
+        PostCounterDelta delta = current.pending().deltaOf(stats.getPostId())
+                .plus(current.flushing().deltaOf(stats.getPostId()));
+        return delta.isZero() ? stats : stats.withDelta(delta);
+    }
+
+    /**
+     * Start the periodic flush on its own thread: the shared @Scheduled pool also runs long
+     * jobs (heat scoring, rollup backfill), and a stalled flush lets the buffers grow.
+     */
+    @PostConstruct
+    public void startFlusher() {
+        flusher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("counter-flush").daemon(true).factory());
+        flusher.scheduleWithFixedDelay(this::scheduledFlush,
+                props.getFlushIntervalMs(), props.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Periodic flush of buffered counters. Failures are logged rather than thrown,
+     * since an exception would cancel the schedule.
+     */
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Post counter flush failed", e);
+        }
+    }
+
+    /**
+     * Stop the periodic flush and drain remaining deltas before the datasource is closed.
+     */
+    @PreDestroy
+    public void drain() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+        int written = flush();
+        log.info("Drained post counters on shutdown: {} rows", written);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int flush() {
+        flushLock.lock();
+        try {
+            return drainAndWrite();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int drainAndWrite() {
+        Generation drained;
+        swapLock.writeLock().lock();
+        try {
+            drained = buffers.pending();
+            buffers = new Buffers(new Generation(), drained);
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        try {
+            return writePostDeltas(drained) + writeCommentDeltas(drained.commentDeltas());
+        } finally {
+            swapLock.writeLock().lock();
+            try {
+                buffers = new Buffers(buffers.pending(), new Generation());
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Buffer an update, deferring it until commit when called inside a transaction
+     * so that rolled-back likes or comments never reach the counters.
+     */
+    private void record(Consumer<Generation> update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(update);
+                }
+            });
+        } else {
+            apply(update);
+        }
+    }
+
+    private void apply(Consumer<Generation> update) {
+        swapLock.readLock().lock();
+        try {
+            update.accept(buffers.pending());
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Write post deltas in chunks; chunks that fail are put back for the next flush.
+     * Rows are sorted by ID so concurrent flushers lock rows in the same order.
+     * Deltas whose post has no statistics row yet get one created before they are applied.
+     */
+    private int writePostDeltas(Generation drained) {
+        List<PostCounterDelta> deltas = drained.postDeltas();
+        int written = 0;
+        for (int from = 0; from < deltas.size(); from += BATCH_SIZE) {
+            List<PostCounterDelta> chunk = deltas.subList(from, Math.min(from + BATCH_SIZE, deltas.size()));
+            try {
+                if (statisticsMapper.applyDeltas(chunk) < chunk.size()) {
+                    applyToMissingRows(chunk);
+                }
+                chunk.forEach(d -> drained.markWritten(d.getPostId()));
+                postDetailCache.invalidateStatistics(chunk.stream().map(PostCounterDelta::getPostId).toList());
+                written += chunk.size();
+            } catch (RuntimeException e) {
+                log.error("Failed to flush {} post counter deltas, requeueing", chunk.size(), e);
+                chunk.forEach(d -> apply(gen -> gen.post(d.getPostId()).add(d)));
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Create the statistics rows a chunk's UPDATE did not match and apply their deltas.
+     * Deltas of posts that no longer exist are dropped.
+     */
+    private void applyToMissingRows(List<PostCounterDelta> chunk) {
+        Set<Long> present = statisticsMapper.selectBatchIds(chunk.stream().map(PostCounterDelta::getPostId).toList())
+                .stream()
+                .map(PostStatistics::getPostId)
+                .collect(Collectors.toSet());
+        List<PostCounterDelta> missing = chunk.stream()
+                .filter(d -> !present.contains(d.getPostId()))
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        statisticsMapper.insertMissing(missing.stream().map(PostCounterDelta::getPostId).toList());
+        int applied = statisticsMapper.applyDeltas(missing);
+        if (applied < missing.size()) {
+            log.warn("Dropped counter deltas of {} posts that no longer exist", missing.size() - applied);
+        }
+    }
+
+    private int writeCommentDeltas(List<CommentLikeDelta> deltas) {
+        int written = 0;
+        for (int from = 0; from < deltas.size(); from += BATCH_SIZE) {
+            List<CommentLikeDelta> chunk = deltas.subList(from, Math.min(from + BATCH_SIZE, deltas.size()));
+            try {
+                commentMapper.applyLikeDeltas(chunk);
+                written += chunk.size();
+            } catch (RuntimeException e) {
+                log.error("Failed to flush {} comment like deltas, requeueing", chunk.size(), e);
+                chunk.forEach(d -> apply(gen -> gen.commentLikes
+                        .computeIfAbsent(d.getCommentId(), id -> new LongAdder()).add(d.getDelta())));
+            }
+        }
+        return written;
+    }
+
+    /**
+     * The generation receiving new deltas and the one being written out.
+     */
+    private record Buffers(Generation pending, Generation flushing) {
+    }
+
+    /**
+     * One buffer generation: striped adders per post and per comment.
+     */
+    private static final class Generation {
+        private final Map<Long, PostAdders> posts = new ConcurrentHashMap<>();
+        private final Map<Long, LongAdder> commentLikes = new ConcurrentHashMap<>();
+        /** Posts whose delta is already in post_statistics; no longer overlaid by merge */
+        private final Set<Long> writtenPosts = ConcurrentHashMap.newKeySet();
+
+        PostAdders post(Long postId) {
+            return posts.computeIfAbsent(postId, id -> new PostAdders());
+        }
+
+        PostCounterDelta deltaOf(Long postId) {
+            PostAdders adders = posts.get(postId);
+            return adders == null || writtenPosts.contains(postId)
+                    ? PostCounterDelta.zero(postId)
+                    : adders.toDelta(postId);
+        }
+
+        void markWritten(Long postId) {
+            writtenPosts.add(postId);
+        }
+
+        List<PostCounterDelta> postDeltas() {
+            return posts.entrySet().stream()
+                    .map(e -> e.getValue().toDelta(e.getKey()))
+                    .filter(d -> !d.isZero())
+                    .sorted(Comparator.comparing(PostCounterDelta::getPostId))
+                    .toList();
+        }
+
+        List<CommentLikeDelta> commentDeltas() {
+            return commentLikes.entrySet().stream()
+                    .map(e -> new CommentLikeDelta(e.getKey(), e.getValue().intValue()))
+                    .filter(d -> d.getDelta() != 0)
+                    .sorted(Comparator.comparing(CommentLikeDelta::getCommentId))
+                    .toList();
+        }
+    }
+
+    private static final class PostAdders {
+        private final LongAdder likes = new LongAdder();
+        private final LongAdder comments = new LongAdder();
+        private final LongAdder bookmarks = new LongAdder();
+
+        void add(PostCounterDelta delta) {
+            likes.add(delta.getLikeDelta());
+            comments.add(delta.getCommentDelta());
+            bookmarks.add(delta.getBookmarkDelta());
+        }
+
+        PostCounterDelta toDelta(Long postId) {
+            return new PostCounterDelta(postId, likes.intValue(), comments.intValue(), bookmarks.intValue());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.mobile.aura.service.impl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.mobile.aura.config.PostCacheProperties;
+import com.mobile.aura.domain.content.Post;
+import com.mobile.aura.domain.content.PostDetailSnapshot;
+import com.mobile.aura.domain.content.PostStatistics;
+import com.mobile.aura.domain.content.Tag;
+import com.mobile.aura.mapper.PostMapper;
+import com.mobile.aura.mapper.PostMediaMapper;
+import com.mobile.aura.mapper.PostStatisticsMapper;
+import com.mobile.aura.mapper.TagMapper;
+import com.mobile.aura.service.PostDetailCacheService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Caffeine implementation of PostDetailCacheService.
+ * <p>
+ * Snapshots are weighed by their estimated size so a few posts with long captions and
+ * many media items cannot crowd out everything else. Missing posts are not cached.
+ * Readability (visibility, deletion, blocks) is still checked by the caller on every
+ * read, against the cached post row.
+ */
+@Service
+public class PostDetailCacheServiceImpl implements PostDetailCacheService {
+
+    private final PostMapper postMapper;
+    private final PostMediaMapper mediaMapper;
+    private final TagMapper tagMapper;
+    private final PostStatisticsMapper statisticsMapper;
+
+    private final LoadingCache<Long, PostDetailSnapshot> snapshots;
+    private final LoadingCache<Long, PostStatistics> statistics;
+
+    public PostDetailCacheServiceImpl(PostMapper postMapper,
+                                      PostMediaMapper mediaMapper,
+                                      TagMapper tagMapper,
+                                      PostStatisticsMapper statisticsMapper,
+                                      PostCacheProperties props,
+                                      MeterRegistry registry) {
+        this.postMapper = postMapper;
+        this.mediaMapper = mediaMapper;
+        this.tagMapper = tagMapper;
+        this.statisticsMapper = statisticsMapper;
+
+        this.snapshots = Caffeine.newBuilder()
+                .maximumWeight(props.getDetailMaxWeightBytes())
+                .weigher((Long postId, PostDetailSnapshot snapshot) -> snapshot.weight())
+                .expireAfterWrite(Duration.ofMillis(props.getDetailTtlMs()))
+                .recordStats()
+                .build(this::loadSnapshot);
+        this.statistics = Caffeine.newBuilder()
+                .maximumSize(props.getStatsMaxSize())
+                .expireAfterWrite(Duration.ofMillis(props.getStatsTtlMs()))
+                .recordStats()
+                .build(this::loadStatistics);
+
+        CaffeineCacheMetrics.monitor(registry, snapshots, "post.detail");
+        CaffeineCacheMetrics.monitor(registry, statistics, "post.stats");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public PostDetailSnapshot snapshot(Long postId) {
+        return snapshots.get(postId);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public PostStatistics statistics(Long postId) {
+        return statistics.get(postId);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void invalidate(Long postId) {
+        snapshots.invalidate(postId);
+        afterCommit(() -> snapshots.invalidate(postId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void invalidateAll() {
+        snapshots.invalidateAll();
+        afterCommit(snapshots::invalidateAll);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void invalidateStatistics(Collection<Long> postIds) {
+        statistics.invalidateAll(postIds);
+    }
+
+    private PostDetailSnapshot loadSnapshot(Long postId) {
+        Post post = postMapper.selectById(postId);
+        return post == null ? null : new PostDetailSnapshot(
+                post,
+                mediaMapper.listByPostId(postId).stream().map(Post::toMediaItem).toList(),
+                tagMapper.findTagsByPostId(postId).stream().map(Tag::getName).toList());
+    }
+
+    private PostStatistics loadStatistics(Long postId) {
+        return Optional.ofNullable(statisticsMapper.selectById(postId))
+                .orElseGet(() -> PostStatistics.createForPost(postId));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.mobile.aura.service.impl;
+
+import com.mobile.aura.domain.content.Post;
+import com.mobile.aura.domain.content.PostTagName;
+import com.mobile.aura.domain.content.SearchHit;
+import com.mobile.aura.dto.ScoreCursor;
+import com.mobile.aura.mapper.PostMapper;
+import com.mobile.aura.mapper.TagMapper;
+import com.mobile.aura.service.PostSearchService;
+import com.mobile.aura.support.CjkBigramTokenizer;
+import com.mobile.aura.support.CjkBigramTokenizer.QueryTerm;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory implementation of PostSearchService.
+ * <p>
+ * Writes are serialized on {@code writeLock}. A rebuild loads into a fresh
+ * {@link InvertedIndex} while the old one keeps serving; updates made meanwhile are
+ * applied to both (the fresh one at swap time), so none are lost.
+ * Until the first rebuild completes, callers fall back to the database search.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchServiceImpl implements PostSearchService {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final PostMapper postMapper;
+    private final TagMapper tagMapper;
+
+    private final Object writeLock = new Object();
+    private volatile InvertedIndex index = new InvertedIndex();
+    private volatile boolean ready;
+    /** Entries written while a rebuild runs (empty Optional = removed); null when idle */
+    private Map<Long, Optional<IndexedPost>> pendingDuringRebuild;
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<SearchHit> search(String keyword, String category, String cursor, int limit) {
+        List<QueryTerm> terms = CjkBigramTokenizer.queryTerms(keyword);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        return index.search(terms, category, ScoreCursor.parse(cursor), limit);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void refresh(Long postId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reindex(postId);
+                }
+            });
+        } else {
+            reindex(postId);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void refreshAll(Collection<Long> postIds) {
+        List<Long> ids = List.copyOf(postIds);
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reindexAll(ids);
+                }
+            });
+        } else {
+            reindexAll(ids);
+        }
+    }
+
+    /**
+     * Build the index in the background once the application is up.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        Thread.ofPlatform().name("search-index-rebuild").daemon(true).start(this::rebuild);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void rebuild() {
+        synchronized (writeLock) {
+            if (pendingDuringRebuild != null) {
+                return;
+            }
+            pendingDuringRebuild = new HashMap<>();
+        }
+        InvertedIndex fresh = new InvertedIndex();
+        try {
+            long afterId = 0;
+            List<Post> posts;
+            do {
+                posts = postMapper.listSearchableAfter(afterId, REBUILD_BATCH_SIZE);
+                if (posts.isEmpty()) {
+                    break;
+                }
+                Map<Long, List<String>> tags = tagNamesOf(posts.stream().map(Post::getId).toList());
+                posts.forEach(p -> fresh.put(IndexedPost.of(p, tags.getOrDefault(p.getId(), List.of()))));
+                afterId = posts.get(posts.size() - 1).getId();
+            } while (posts.size() == REBUILD_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                pendingDuringRebuild = null;
+            }
+            log.error("Search index rebuild failed; keeping the previous index", e);
+            return;
+        }
+
+        synchronized (writeLock) {
+            pendingDuringRebuild.forEach((postId, doc) ->
+                    doc.ifPresentOrElse(fresh::put, () -> fresh.remove(postId)));
+            pendingDuringRebuild = null;
+            index = fresh;
+            ready = true;
+        }
+        log.info("Search index rebuilt with {} posts", fresh.size());
+    }
+
+    private void reindex(Long postId) {
+        try {
+            Optional<IndexedPost> doc = Optional.ofNullable(postMapper.selectById(postId))
+                    .filter(p -> p.isReadableBy(null, null))
+                    .map(p -> IndexedPost.of(p, tagNamesOf(List.of(postId)).getOrDefault(postId, List.of())));
+            synchronized (writeLock) {
+                write(postId, doc);
+            }
+        } catch (RuntimeException e) {
+            // The post stays stale in the index until its next write or the next rebuild
+            log.warn("Failed to refresh search index for post {}", postId, e);
+        }
+    }
+
+    /**
+     * Batched variant of {@link #reindex}: one post query and one tag query per chunk.
+     */
+    private void reindexAll(List<Long> postIds) {
+        for (int from = 0; from < postIds.size(); from += REBUILD_BATCH_SIZE) {
+            List<Long> chunk = postIds.subList(from, Math.min(from + REBUILD_BATCH_SIZE, postIds.size()));
+            try {
+                Map<Long, Post> posts = postMapper.selectBatchIds(chunk).stream()
+                        .filter(p -> p.isReadableBy(null, null))
+                        .collect(Collectors.toMap(Post::getId, Function.identity()));
+                Map<Long, List<String>> tags = tagNamesOf(chunk);
+                synchronized (writeLock) {
+                    chunk.forEach(postId -> write(postId, Optional.ofNullable(posts.get(postId))
+                            .map(p -> IndexedPost.of(p, tags.getOrDefault(postId, List.of())))));
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to refresh search index for {} posts", chunk.size(), e);
+            }
+        }
+    }
+
+    /**
+     * Put or remove one entry; must hold {@code writeLock}.
+     */
+    private void write(Long postId, Optional<IndexedPost> doc) {
+        doc.ifPresentOrElse(index::put, () -> index.remove(postId));
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.put(postId, doc);
+        }
+    }
+
+    private Map<Long, List<String>> tagNamesOf(List<Long> postIds) {
+        return tagMapper.listTagNamesByPostIds(postIds).stream()
+                .collect(Collectors.groupingBy(PostTagName::getPostId,
+                        Collectors.mapping(PostTagName::getName, Collectors.toList())));
+    }
+}
@@ -2,16 +2,25 @@ package com.mobile.aura.service.impl;
 
 import com.mobile.aura.domain.content.*;
 import com.mobile.aura.domain.event.EventLog.EventType;
-import com.mobile.aura.domain.user.UserFollow;
 import com.mobile.aura.domain.user.UserSocialStats;
 import com.mobile.aura.dto.Cursor;
+import com.mobile.aura.dto.HotCursor;
+import com.mobile.aura.dto.ScoreCursor;
 import com.mobile.aura.dto.PageResponse;
 import com.mobile.aura.dto.post.*;
-import com.mobile.aura.dto.tag.TagDtos;
+import com.mobile.aura.dto.user.UserBasicInfoResp;
 import com.mobile.aura.mapper.*;
+import com.mobile.aura.service.BlockSetService;
 import com.mobile.aura.service.EventLogService;
+import com.mobile.aura.service.HotRankingService;
+import com.mobile.aura.service.PostCardService;
+import com.mobile.aura.service.PostCounterService;
+import com.mobile.aura.service.PostDetailCacheService;
+import com.mobile.aura.service.PostSearchService;
 import com.mobile.aura.service.PostService;
 import com.mobile.aura.service.TagService;
+import com.mobile.aura.service.TimelineService;
+import com.mobile.aura.service.UserProfileService;
 import com.mobile.aura.support.BizException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -19,6 +28,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of PostService using MyBatis Plus.
@@ -39,30 +51,21 @@ public class PostServiceMPImpl implements PostService {
     private final PostCommentMapper commentMapper;
     private final CommentLikeMapper commentLikeMapper;
 
-    private final UserFollowMapper followMapper;
-    private final UserBlockMapper blockMapper;
     private final UserSocialStatsMapper socialStatsMapper;
 
     private final TagService tagService;
+    private final PostCardService postCardService;
+    private final BlockSetService blockSetService;
+    private final PostCounterService counterService;
     private final EventLogService eventLogService;
+    private final HotRankingService hotRankingService;
+    private final PostSearchService postSearchService;
+    private final TimelineService timelineService;
+    private final PostDetailCacheService postDetailCache;
+    private final UserProfileService userProfileService;
 
     /* --------------------- Utility Methods --------------------- */
 
-    /**
-     * Check if two users have blocked each other (either direction).
-     *
-     * @param a first user ID
-     * @param b second user ID
-     * @return true if either user has blocked the other
-     */
-    private boolean blockedEither(Long a, Long b) {
-        return Optional.ofNullable(a)
-                .flatMap(userA -> Optional.ofNullable(b)
-                        .map(userB -> blockMapper.existsEither(userA, userB) > 0))
-                .orElse(false);
-    }
-
-
     /**
      * Retrieve a post and ensure it's modifiable by the user.
      * Checks existence, deletion status, and authorization.
@@ -89,10 +92,22 @@ public class PostServiceMPImpl implements PostService {
      */
     private Post mustReadablePost(Long viewer, Long postId) {
         Post p = postMapper.selectById(postId);
-        p.ensureReadableBy(viewer, this::blockedEither);
+        p.ensureReadableBy(viewer, blockSetService::blockedEither);
         return p;
     }
 
+    /**
+     * Load the basic info of every distinct comment author with one cached batch lookup.
+     *
+     * @param comments the comments being rendered
+     * @return author info by user ID (authors that no longer exist are absent)
+     */
+    private Map<Long, UserBasicInfoResp> authorsOf(Stream<PostComment> comments) {
+        List<Long> authorIds = comments.map(PostComment::getAuthorId).distinct().toList();
+        return userProfileService.getBasicInfoBatch(authorIds).stream()
+                .collect(Collectors.toMap(UserBasicInfoResp::getUserId, Function.identity()));
+    }
+
     /* --------------------- Post CRUD & List Operations --------------------- */
 
     /**
@@ -125,6 +140,8 @@ public class PostServiceMPImpl implements PostService {
         // Update user's post count
         UserSocialStats.ensureUpdated(socialStatsMapper.incPostCount(authorId, +1));
 
+        postSearchService.refresh(p.getId());
+        timelineService.onPublished(p.getId());
         return p.getId();
     }
 
@@ -145,6 +162,9 @@ public class PostServiceMPImpl implements PostService {
         // Handle tags if provided
         Optional.ofNullable(req.getTags())
                 .ifPresent(tags -> tagService.replacePostTags(postId, tags, null, authorId));
+
+        postDetailCache.invalidate(postId);
+        postSearchService.refresh(postId);
     }
 
     /**
@@ -169,6 +189,7 @@ public class PostServiceMPImpl implements PostService {
         // Update media count using domain method
         post.updateMediaCount(Optional.ofNullable(medias).map(List::size).orElse(0));
         postMapper.updateById(post);
+        postDetailCache.invalidate(postId);
     }
 
     /**
@@ -180,6 +201,9 @@ public class PostServiceMPImpl implements PostService {
         Post post = mustModifiablePost(postId, authorId);
         post.publish();
         postMapper.updateById(post);
+        postDetailCache.invalidate(postId);
+        postSearchService.refresh(postId);
+        timelineService.onPublished(postId);
     }
 
     /**
@@ -191,6 +215,9 @@ public class PostServiceMPImpl implements PostService {
         Post post = mustModifiablePost(postId, authorId);
         post.hide();
         postMapper.updateById(post);
+        postDetailCache.invalidate(postId);
+        postSearchService.refresh(postId);
+        timelineService.onRetracted(postId);
     }
 
     /**
@@ -206,6 +233,9 @@ public class PostServiceMPImpl implements PostService {
                     post.ensureModifiable(authorId);
                     post.delete();
                     postMapper.updateById(post);
+                    postDetailCache.invalidate(postId);
+                    postSearchService.refresh(postId);
+                    timelineService.onRetracted(postId);
 
                     // Update user's post count
                     UserSocialStats.ensureUpdated(socialStatsMapper.incPostCount(authorId, -1));
@@ -217,28 +247,21 @@ public class PostServiceMPImpl implements PostService {
      */
     @Override
     public PostDetailResp detail(Long viewer, Long postId) {
-        Post p = mustReadablePost(viewer, postId);
+        // Post row, media and tags come from the detail cache; readability is still checked per viewer
+        PostDetailSnapshot snapshot = postDetailCache.snapshot(postId);
+        Post p = Optional.ofNullable(snapshot).map(PostDetailSnapshot::getPost).orElse(null);
+        Post.ensureExists(p);
+        p.ensureReadableBy(viewer, blockSetService::blockedEither);
 
         // Log click event (user viewed post detail)
         if (viewer != null) {
             eventLogService.logEventAsync(viewer, postId, EventType.CLICK);
         }
 
-        // Fetch media items
-        List<PostMedia> mds = mediaMapper.listByPostId(postId);
-        List<MediaItem> medias = mds.stream().map(Post::toMediaItem).toList();
-
-        // Fetch tags
-        List<String> tags = tagService.listPostTags(postId).stream()
-                .map(TagDtos.TagResp::getName)
-                .toList();
-
-        // Fetch statistics
-        PostStatistics stats = Optional.ofNullable(statisticsMapper.selectById(postId))
-                .orElse(PostStatistics.createForPost(postId));
+        // Short-TTL statistics row plus counter deltas not yet flushed
+        PostStatistics stats = counterService.merge(postDetailCache.statistics(postId));
 
-        // Convert to response DTO using domain method
-        return p.toDetailResp(medias, tags, stats.getLikeCount(), stats.getCommentCount(), stats.getBookmarkCount());
+        return snapshot.toDetailResp(stats);
     }
 
     /**
@@ -249,18 +272,7 @@ public class PostServiceMPImpl implements PostService {
         Cursor parsedCursor = Cursor.parse(cursor);
         List<Post> posts = postMapper.listPublic(parsedCursor.getTimestamp(), parsedCursor.getId(), limit + 1);
 
-        return Post.toCardsPageResponse(
-                toPostsFilteringBlocks(viewer, posts),
-                limit,
-                postId -> Optional.ofNullable(mediaMapper.findFirstByPostId(postId))
-                        .map(PostMedia::getUrl)
-                        .orElse(null),
-                postId -> {
-                    PostStatistics stats = Optional.ofNullable(statisticsMapper.selectById(postId))
-                            .orElse(PostStatistics.createForPost(postId));
-                    return new int[]{stats.getLikeCount(), stats.getCommentCount(), stats.getBookmarkCount()};
-                }
-        );
+        return Post.toCardsPageResponse(postCardService.hydrate(viewer, posts), limit);
     }
 
     /**
@@ -268,32 +280,42 @@ public class PostServiceMPImpl implements PostService {
      */
     @Override
     public PageResponse<PostCardResp> listFollowFeed(Long viewer, int limit, String cursor) {
-        // Get list of users the viewer follows
-        List<Long> followeeIds = followMapper.listByFollowerId(viewer)
-                .stream()
-                .map(UserFollow::getFolloweeId)
-                .toList();
+        List<Post> posts = timelineService.readFeed(viewer, Cursor.parse(cursor), limit);
+        return Post.toCardsPageResponse(postCardService.hydrate(viewer, posts), limit);
+    }
 
-        return Optional.of(followeeIds)
-                .filter(ids -> !ids.isEmpty())
-                .map(ids -> {
-                    Cursor parsedCursor = Cursor.parse(cursor);
-                    List<Post> posts = postMapper.listFollowFeed(ids, parsedCursor.getTimestamp(), parsedCursor.getId(), limit + 1);
-
-                    return Post.toCardsPageResponse(
-                            toPostsFilteringBlocks(viewer, posts),
-                            limit,
-                            postId -> Optional.ofNullable(mediaMapper.findFirstByPostId(postId))
-                                    .map(PostMedia::getUrl)
-                                    .orElse(null),
-                            postId -> {
-                                PostStatistics stats = Optional.ofNullable(statisticsMapper.selectById(postId))
-                                        .orElse(PostStatistics.createForPost(postId));
-                                return new int[]{stats.getLikeCount(), stats.getCommentCount(), stats.getBookmarkCount()};
-                            }
-                    );
-                })
-                .orElse(PageResponse.empty());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageResponse<PostCardResp> listHot(Long viewer, int limit, String cursor) {
+        HotCursor parsedCursor = HotCursor.parse(cursor);
+        HotRanking ranking = parsedCursor.isEmpty()
+                ? hotRankingService.current()
+                : hotRankingService.versionOrCurrent(parsedCursor.getVersion());
+        int from = parsedCursor.isEmpty() ? 0 : ranking.indexAfter(parsedCursor.getScore(), parsedCursor.getPostId());
+
+        // The snapshot can lag behind hides, deletes and new blocks: re-check every loaded post
+        // and keep reading down the ranking until limit + 1 readable posts are collected
+        Set<Long> blockedAuthors = blockSetService.blockSetOf(viewer);
+        Map<Long, Integer> rankOf = new HashMap<>();
+        List<Post> readable = new ArrayList<>();
+        while (readable.size() <= limit && from < ranking.size()) {
+            int to = Math.min(from + 2 * (limit + 1 - readable.size()), ranking.size());
+            Map<Long, Post> loaded = postMapper.selectBatchIds(ranking.postIds(from, to)).stream()
+                    .collect(Collectors.toMap(Post::getId, p -> p));
+            for (int i = from; i < to && readable.size() <= limit; i++) {
+                Post post = loaded.get(ranking.postIdAt(i));
+                if (post != null && post.isReadableBy(viewer, (v, author) -> blockedAuthors.contains(author))) {
+                    readable.add(post);
+                    rankOf.put(post.getId(), i);
+                }
+            }
+            from = to;
+        }
+
+        return Post.toCardsPageResponse(postCardService.hydrate(viewer, readable), limit,
+                postId -> HotCursor.build(ranking.getVersion(), ranking.scoreAt(rankOf.get(postId)), postId));
     }
 
     /**
@@ -301,21 +323,39 @@ public class PostServiceMPImpl implements PostService {
      */
     @Override
     public PageResponse<PostCardResp> searchPublic(Long viewer, String keyword, String category, int limit, String cursor) {
-        Cursor parsedCursor = Cursor.parse(cursor);
-        List<Post> posts = postMapper.searchPublic(keyword, category, parsedCursor.getTimestamp(), parsedCursor.getId(), limit + 1);
+        // The LIKE scan only serves while the in-memory index is still being built after startup
+        return Optional.of(postSearchService)
+                .filter(PostSearchService::isReady)
+                .map(index -> searchIndexed(viewer, keyword, category, limit, cursor))
+                .orElseGet(() -> {
+                    Cursor parsedCursor = Cursor.parse(cursor);
+                    List<Post> posts = postMapper.searchPublic(keyword, category, parsedCursor.getTimestamp(), parsedCursor.getId(), limit + 1);
+                    return Post.toCardsPageResponse(postCardService.hydrate(viewer, posts), limit);
+                });
+    }
 
-        return Post.toCardsPageResponse(
-                toPostsFilteringBlocks(viewer, posts),
-                limit,
-                postId -> Optional.ofNullable(mediaMapper.findFirstByPostId(postId))
-                        .map(PostMedia::getUrl)
-                        .orElse(null),
-                postId -> {
-                    PostStatistics stats = Optional.ofNullable(statisticsMapper.selectById(postId))
-                            .orElse(PostStatistics.createForPost(postId));
-                    return new int[]{stats.getLikeCount(), stats.getCommentCount(), stats.getBookmarkCount()};
-                }
-        );
+    /**
+     * Search through the inverted index: ranked IDs come from memory,
+     * posts are loaded with one {@code IN (...)} query and re-checked for readability.
+     */
+    private PageResponse<PostCardResp> searchIndexed(Long viewer, String keyword, String category, int limit, String cursor) {
+        List<SearchHit> hits = postSearchService.search(keyword, category, cursor, limit + 1);
+        Map<Long, Long> scoreOf = hits.stream()
+                .collect(Collectors.toMap(SearchHit::getPostId, SearchHit::getScore));
+        Map<Long, Post> loaded = Optional.of(hits)
+                .filter(h -> !h.isEmpty())
+                .map(h -> postMapper.selectBatchIds(scoreOf.keySet()).stream()
+                        .collect(Collectors.toMap(Post::getId, p -> p)))
+                .orElse(Map.of());
+
+        List<Post> posts = hits.stream()
+                .map(hit -> loaded.get(hit.getPostId()))
+                .filter(Objects::nonNull)
+                .filter(post -> post.isReadableBy(viewer, blockSetService::blockedEither))
+                .toList();
+
+        return Post.toCardsPageResponse(postCardService.hydrate(viewer, posts), limit,
+                postId -> ScoreCursor.build(scoreOf.get(postId), postId));
     }
 
     /**
@@ -326,31 +366,7 @@ public class PostServiceMPImpl implements PostService {
         Cursor parsedCursor = Cursor.parse(cursor);
         List<Post> posts = postMapper.listByAuthor(authorId, parsedCursor.getTimestamp(), parsedCursor.getId(), limit + 1);
 
-        return Post.toCardsPageResponse(
-                posts,
-                limit,
-                postId -> Optional.ofNullable(mediaMapper.findFirstByPostId(postId))
-                        .map(PostMedia::getUrl)
-                        .orElse(null),
-                postId -> {
-                    PostStatistics stats = Optional.ofNullable(statisticsMapper.selectById(postId))
-                            .orElse(PostStatistics.createForPost(postId));
-                    return new int[]{stats.getLikeCount(), stats.getCommentCount(), stats.getBookmarkCount()};
-                }
-        );
-    }
-
-    /**
-     * Filter posts to exclude blocked users.
-     *
-     * @param viewer the ID of the viewer
-     * @param list list of posts to filter
-     * @return filtered list of posts
-     */
-    private List<Post> toPostsFilteringBlocks(Long viewer, List<Post> list) {
-        return list.stream()
-                .filter(post -> !blockedEither(viewer, post.getAuthorId()))
-                .toList();
+        return Post.toCardsPageResponse(postCardService.hydrate(null, posts), limit);
     }
 
 
@@ -370,8 +386,8 @@ public class PostServiceMPImpl implements PostService {
         PostLike like = PostLike.create(uid, postId);
         likeMapper.insert(like);
 
-        // Increment like count in statistics table
-        PostStatistics.ensureUpdated(statisticsMapper.incLikeCount(postId, 1));
+        // Buffer like count increment (flushed to statistics in batches)
+        counterService.addLikes(postId, 1);
 
         // Log like event
         eventLogService.logEventAsync(uid, postId, EventType.LIKE);
@@ -387,8 +403,8 @@ public class PostServiceMPImpl implements PostService {
         int deletedCount = likeMapper.deleteLike(uid, postId);
         PostLike.ensureDeleted(deletedCount);
 
-        // Decrement like count in statistics table
-        PostStatistics.ensureUpdated(statisticsMapper.incLikeCount(postId, -1));
+        // Buffer like count decrement (flushed to statistics in batches)
+        counterService.addLikes(postId, -1);
     }
 
     /**
@@ -414,8 +430,8 @@ public class PostServiceMPImpl implements PostService {
         PostBookmark bookmark = PostBookmark.create(uid, postId);
         bookmarkMapper.insert(bookmark);
 
-        // Increment bookmark count in statistics table
-        PostStatistics.ensureUpdated(statisticsMapper.incBookmarkCount(postId, 1));
+        // Buffer bookmark count increment (flushed to statistics in batches)
+        counterService.addBookmarks(postId, 1);
 
         // Log favorite event
         eventLogService.logEventAsync(uid, postId, EventType.FAVORITE);
@@ -431,8 +447,8 @@ public class PostServiceMPImpl implements PostService {
         int deletedCount = bookmarkMapper.deleteBookmark(uid, postId);
         PostBookmark.ensureDeleted(deletedCount);
 
-        // Decrement bookmark count in statistics table
-        PostStatistics.ensureUpdated(statisticsMapper.incBookmarkCount(postId, -1));
+        // Buffer bookmark count decrement (flushed to statistics in batches)
+        counterService.addBookmarks(postId, -1);
     }
 
     /**
@@ -468,18 +484,7 @@ public class PostServiceMPImpl implements PostService {
                             ))
                             .toList();
 
-                    return Post.toCardsPageResponse(
-                            posts,
-                            limit,
-                            postId -> Optional.ofNullable(mediaMapper.findFirstByPostId(postId))
-                                    .map(PostMedia::getUrl)
-                                    .orElse(null),
-                            postId -> {
-                                PostStatistics stats = Optional.ofNullable(statisticsMapper.selectById(postId))
-                                        .orElse(PostStatistics.createForPost(postId));
-                                return new int[]{stats.getLikeCount(), stats.getCommentCount(), stats.getBookmarkCount()};
-                            }
-                    );
+                    return Post.toCardsPageResponse(postCardService.hydrate(null, posts), limit);
                 })
                 .orElse(PageResponse.empty());
     }
@@ -513,7 +518,7 @@ public class PostServiceMPImpl implements PostService {
         comment.becomeRoot();
         commentMapper.updateById(comment);
 
-        PostStatistics.ensureUpdated(statisticsMapper.incCommentCount(postId, 1));
+        counterService.addComments(postId, 1);
         return comment.getId();
     }
 
@@ -522,10 +527,10 @@ public class PostServiceMPImpl implements PostService {
      */
     private Long createReplyComment(Long uid, Long postId, Long parentId, String content) {
         PostComment parent = commentMapper.selectById(parentId);
-        PostComment reply = PostComment.createReply(postId, uid, parent, content, this::blockedEither);
+        PostComment reply = PostComment.createReply(postId, uid, parent, content, blockSetService::blockedEither);
         commentMapper.insert(reply);
 
-        PostStatistics.ensureUpdated(statisticsMapper.incCommentCount(postId, 1));
+        counterService.addComments(postId, 1);
         PostComment.ensureUpdated(commentMapper.incReplyCount(parent.getId(), 1));
         return reply.getId();
     }
@@ -546,7 +551,7 @@ public class PostServiceMPImpl implements PostService {
                     comment.delete();
                     commentMapper.updateById(comment);
 
-                    PostStatistics.ensureUpdated(statisticsMapper.incCommentCount(comment.getPostId(), -1));
+                    counterService.addComments(comment.getPostId(), -1);
 
                     Optional.ofNullable(comment.getParentId())
                             .ifPresent(parentId -> PostComment.ensureUpdated(commentMapper.incReplyCount(parentId, -1)));
@@ -563,13 +568,26 @@ public class PostServiceMPImpl implements PostService {
         Cursor parsedCursor = Cursor.parse(cursor);
         List<PostComment> rootComments = commentMapper.listRootComments(postId, parsedCursor.formatTimestamp(), parsedCursor.getId(), limit + 1);
 
+        // Previews of every thread on the page come from one windowed query
+        List<PostComment> shownRoots = rootComments.stream().limit(limit).toList();
+        Map<Long, List<PostComment>> previews = Optional.of(shownRoots)
+                .filter(roots -> !roots.isEmpty() && previewSize > 0)
+                .map(roots -> commentMapper.listPreviewRepliesByRootIds(
+                                postId, roots.stream().map(PostComment::getId).toList(), previewSize).stream()
+                        .collect(Collectors.groupingBy(PostComment::getRootId)))
+                .orElse(Map.of());
+
+        // ...and every author on the page from one cached profile lookup
+        Map<Long, UserBasicInfoResp> authors = authorsOf(Stream.concat(
+                shownRoots.stream(), previews.values().stream().flatMap(List::stream)));
+
         return PostComment.toThreadsPageResponse(
                 rootComments,
                 limit,
-                rootId -> commentMapper.listPreviewReplies(postId, rootId, Math.max(0, previewSize))
-                        .stream()
-                        .map(PostComment::toCommentResp)
-                        .toList()
+                rootId -> previews.getOrDefault(rootId, List.of()).stream()
+                        .map(reply -> reply.toCommentResp(authors.get(reply.getAuthorId())))
+                        .toList(),
+                authors::get
         );
     }
 
@@ -585,7 +603,8 @@ public class PostServiceMPImpl implements PostService {
         Cursor parsedCursor = Cursor.parse(cursor);
         List<PostComment> replies = commentMapper.listReplies(root.getPostId(), root.getId(), parsedCursor.formatTimestamp(), parsedCursor.getId(), limit + 1);
 
-        return PostComment.toRepliesPageResponse(replies, limit);
+        Map<Long, UserBasicInfoResp> authors = authorsOf(replies.stream().limit(limit));
+        return PostComment.toRepliesPageResponse(replies, limit, authors::get);
     }
 
     /* --------------------- Comment Like Operations --------------------- */
@@ -607,7 +626,7 @@ public class PostServiceMPImpl implements PostService {
         commentLikeMapper.insert(like);
 
         // Increment like count
-        PostComment.ensureUpdated(commentMapper.incLikeCount(commentId, 1));
+        counterService.addCommentLikes(commentId, 1);
     }
 
     /**
@@ -621,7 +640,7 @@ public class PostServiceMPImpl implements PostService {
         CommentLike.ensureDeleted(deletedCount);
 
         // Decrement like count
-        PostComment.ensureUpdated(commentMapper.incLikeCount(commentId, -1));
+        counterService.addCommentLikes(commentId, -1);
     }
 
     /**
@@ -11,7 +11,9 @@ import com.mobile.aura.mapper.UserBlockMapper;
 import com.mobile.aura.mapper.UserFollowMapper;
 import com.mobile.aura.mapper.UserMapper;
 import com.mobile.aura.mapper.UserSocialStatsMapper;
+import com.mobile.aura.service.BlockSetService;
 import com.mobile.aura.service.RelationService;
+import com.mobile.aura.service.TimelineService;
 import com.mobile.aura.service.UserProfileService;
 import com.mobile.aura.support.BizException;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +38,8 @@ public class RelationServiceImpl implements RelationService {
     private final UserBlockMapper blockMapper;
     private final UserSocialStatsMapper socialStatsMapper;
     private final UserProfileService userProfileService;
+    private final BlockSetService blockSetService;
+    private final TimelineService timelineService;
 
     // === Helper methods ===
 
@@ -86,6 +90,7 @@ public class RelationServiceImpl implements RelationService {
         followMapper.insert(follow);
         UserSocialStats.ensureUpdated(socialStatsMapper.incFollowCount(me, +1));
         UserSocialStats.ensureUpdated(socialStatsMapper.incFansCount(target, +1));
+        timelineService.onFollowed(me, target);
     }
 
     @Override
@@ -96,6 +101,7 @@ public class RelationServiceImpl implements RelationService {
 
         UserSocialStats.ensureUpdated(socialStatsMapper.incFollowCount(me, -1));
         UserSocialStats.ensureUpdated(socialStatsMapper.incFansCount(target, -1));
+        timelineService.onUnfollowed(me, target);
     }
 
     // === Block operations ===
@@ -113,6 +119,7 @@ public class RelationServiceImpl implements RelationService {
                 .filter(count -> count == 0)
                 .ifPresent(count -> {
                     blockMapper.insert(block);
+                    blockSetService.invalidate(me, target);
 
                     // Remove mutual follow relationships
                     int meFollowsTarget = followMapper.deleteByFollowerAndFollowee(me, target);
@@ -124,6 +131,7 @@ public class RelationServiceImpl implements RelationService {
                             .ifPresent(c -> {
                                 UserSocialStats.ensureUpdated(socialStatsMapper.incFollowCount(me, -1));
                                 UserSocialStats.ensureUpdated(socialStatsMapper.incFansCount(target, -1));
+                                timelineService.onUnfollowed(me, target);
                             });
 
                     Optional.of(targetFollowsMe)
@@ -131,6 +139,7 @@ public class RelationServiceImpl implements RelationService {
                             .ifPresent(c -> {
                                 UserSocialStats.ensureUpdated(socialStatsMapper.incFollowCount(target, -1));
                                 UserSocialStats.ensureUpdated(socialStatsMapper.incFansCount(me, -1));
+                                timelineService.onUnfollowed(target, me);
                             });
                 });
     }
@@ -140,6 +149,7 @@ public class RelationServiceImpl implements RelationService {
     public void unblock(Long me, Long target) {
         int deletedCount = blockMapper.deleteByBlockerAndBlocked(me, target);
         UserBlock.ensureExists(deletedCount);
+        blockSetService.invalidate(me, target);
     }
 
     // === List operations ===
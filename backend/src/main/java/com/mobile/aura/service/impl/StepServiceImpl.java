@@ -7,6 +7,7 @@ import com.mobile.aura.dto.step.*;
 import com.mobile.aura.dto.step.StepSyncResp.SyncStatus;
 import com.mobile.aura.mapper.StepCountMapper;
 import com.mobile.aura.service.ActivityLevelService;
+import com.mobile.aura.service.DailyHealthService;
 import com.mobile.aura.service.StepService;
 import com.mobile.aura.service.WeightService;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +20,18 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of StepService.
@@ -33,6 +45,7 @@ public class StepServiceImpl implements StepService {
     private final StepCountMapper stepCountMapper;
     private final WeightService weightService;
     private final ActivityLevelService activityLevelService;
+    private final DailyHealthService dailyHealthService;
 
     @Override
     @Transactional
@@ -46,43 +59,79 @@ public class StepServiceImpl implements StepService {
                         .eq(StepCount::getRecordDate, recordDate)
         );
 
-        // If no existing record, create new one
-        if (existing == null) {
-            return insertNewRecord(userId, recordDate, req);
-        }
-
-        // Check if data is newer using syncSequence
-        if (!existing.shouldAcceptSync(req.getSyncSequence())) {
-            // Reject old data
-            return existing.toSyncResponse(SyncStatus.REJECTED, "Data is outdated, server has newer data");
-        }
+        SyncOutcome outcome = applySync(existing, userId, recordDate, req, () -> getUserWeight(userId));
+        if (outcome.changed()) {
+            if (existing == null) {
+                stepCountMapper.insert(outcome.row());
+            } else {
+                stepCountMapper.updateById(outcome.row());
+            }
+            dailyHealthService.refreshSteps(userId, List.of(recordDate));
+            log.info("Synced step record: userId={}, date={}, steps={}, syncSeq={}",
+                    userId, recordDate, outcome.row().getSteps(), outcome.row().getSyncSequence());
 
-        // Check for version conflict (optimistic locking)
-        if (req.getKnownVersion() != null &&
-                !req.getKnownVersion().equals(existing.getVersion())) {
-            // Version conflict detected
-            return existing.toSyncResponse(SyncStatus.CONFLICT, "Version conflict detected, please pull latest data");
+            // Trigger activity level recalculation
+            triggerActivityLevelUpdate(userId, List.of(recordDate));
         }
-
-        // Update existing record
-        return updateExistingRecord(existing, req);
+        return outcome.response();
     }
 
+    /**
+     * Set-based batch sync: one SELECT for all dates, one weight lookup, the sync
+     * rules applied in memory (in item order, so repeated dates chain like sequential
+     * syncs), one multi-row upsert and one activity recalculation.
+     */
     @Override
     @Transactional
     public BatchSyncResp batchSync(Long userId, BatchSyncReq req) {
-        List<StepSyncResp> results = new ArrayList<>();
+        List<StepSyncReq> items = req.getItems();
+        List<StepSyncResp> results = new ArrayList<>(Collections.nCopies(items.size(), null));
 
-        for (StepSyncReq item : req.getItems()) {
+        // Parse all dates first so the existing rows can be loaded in one query
+        LocalDate[] dates = new LocalDate[items.size()];
+        for (int i = 0; i < items.size(); i++) {
             try {
-                StepSyncResp resp = syncSteps(userId, item);
-                results.add(resp);
+                dates[i] = SingleDateReq.parseDateOrToday(items.get(i).getDate());
+            } catch (Exception e) {
+                results.set(i, StepCount.buildErrorResponse(items.get(i).getDate(), e.getMessage()));
+            }
+        }
+        Set<LocalDate> distinctDates = Arrays.stream(dates).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<LocalDate, StepCount> current = distinctDates.isEmpty() ? new HashMap<>() : stepCountMapper.selectList(
+                        new LambdaQueryWrapper<StepCount>()
+                                .eq(StepCount::getUserId, userId)
+                                .in(StepCount::getRecordDate, distinctDates))
+                .stream()
+                .collect(Collectors.toMap(StepCount::getRecordDate, Function.identity(), (a, b) -> a, HashMap::new));
+
+        Double weightKg = distinctDates.isEmpty() ? null : getUserWeight(userId);
+
+        Map<LocalDate, StepCount> dirty = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (dates[i] == null) {
+                continue;
+            }
+            StepSyncReq item = items.get(i);
+            try {
+                SyncOutcome outcome = applySync(current.get(dates[i]), userId, dates[i], item, () -> weightKg);
+                if (outcome.changed()) {
+                    current.put(dates[i], outcome.row());
+                    dirty.put(dates[i], outcome.row());
+                }
+                results.set(i, outcome.response());
             } catch (Exception e) {
                 log.error("Batch sync failed for userId={}, date={}", userId, item.getDate(), e);
-                results.add(StepCount.buildErrorResponse(item.getDate(), e.getMessage()));
+                results.set(i, StepCount.buildErrorResponse(item.getDate(), e.getMessage()));
             }
         }
 
+        if (!dirty.isEmpty()) {
+            stepCountMapper.upsertBatch(new ArrayList<>(dirty.values()));
+            dailyHealthService.refreshSteps(userId, dirty.keySet());
+            log.info("Batch synced step records: userId={}, items={}, written={}", userId, items.size(), dirty.size());
+            triggerActivityLevelUpdate(userId, dirty.keySet());
+        }
+
         return StepCount.toBatchSyncResponse(results);
     }
 
@@ -154,50 +203,52 @@ public class StepServiceImpl implements StepService {
     }
 
     /**
-     * Insert new step count record.
+     * Apply one sync request to the current row of its day, without writing anything.
+     * A new row is created when there is none; otherwise the sync sequence and the client's
+     * known version decide whether the row is updated.
+     *
+     * @param existing current row, or null
+     * @param weight user's weight, only resolved when calories must be calculated
      */
-    private StepSyncResp insertNewRecord(Long userId, LocalDate recordDate, StepSyncReq req) {
-        Double userWeightKg = getUserWeight(userId);
-        StepCount stepCount = StepCount.create(userId, recordDate, req, userWeightKg);
-        stepCountMapper.insert(stepCount);
+    private SyncOutcome applySync(StepCount existing, Long userId, LocalDate recordDate, StepSyncReq req,
+                                  Supplier<Double> weight) {
+        // If no existing record, create new one
+        if (existing == null) {
+            StepCount created = StepCount.create(userId, recordDate, req, weight.get());
+            return new SyncOutcome(created, created.toSyncResponse(SyncStatus.ACCEPTED, "Sync successful"), true);
+        }
 
-        log.info("Created new step record: userId={}, date={}, steps={}, syncSeq={}",
-                userId, recordDate, req.getSteps(), req.getSyncSequence());
+        // Check if data is newer using syncSequence
+        if (!existing.shouldAcceptSync(req.getSyncSequence())) {
+            // Reject old data
+            return new SyncOutcome(existing,
+                    existing.toSyncResponse(SyncStatus.REJECTED, "Data is outdated, server has newer data"), false);
+        }
 
-        // Trigger activity level recalculation
-        triggerActivityLevelUpdate(userId);
+        // Check for version conflict (optimistic locking)
+        if (req.getKnownVersion() != null &&
+                !req.getKnownVersion().equals(existing.getVersion())) {
+            // Version conflict detected
+            return new SyncOutcome(existing,
+                    existing.toSyncResponse(SyncStatus.CONFLICT, "Version conflict detected, please pull latest data"), false);
+        }
 
-        return stepCount.toSyncResponse(SyncStatus.ACCEPTED, "Sync successful");
+        // Update existing record
+        int oldSteps = existing.getSteps();
+        if (existing.updateSteps(req, weight.get())) {
+            return new SyncOutcome(existing, existing.toSyncResponse(SyncStatus.ACCEPTED, "Sync successful"), true);
+        }
+        log.warn("Step update rejected: userId={}, date={}, oldSteps={}, newSteps={}",
+                existing.getUserId(), existing.getRecordDate(), oldSteps, req.getSteps());
+        return new SyncOutcome(existing,
+                existing.toSyncResponse(SyncStatus.REJECTED, "Steps not increased or data is outdated"), false);
     }
 
     /**
-     * Update existing step count record.
+     * Result of applying one sync request: the row after it, the client response, and
+     * whether the row must be written.
      */
-    private StepSyncResp updateExistingRecord(StepCount existing, StepSyncReq req) {
-        int oldSteps = existing.getSteps();
-        Long oldSyncSeq = existing.getSyncSequence();
-
-        Double userWeightKg = getUserWeight(existing.getUserId());
-        boolean updated = existing.updateSteps(req, userWeightKg);
-
-        if (updated) {
-            stepCountMapper.updateById(existing);
-
-            log.info("Updated step record: userId={}, date={}, steps: {}→{}, syncSeq: {}→{}",
-                    existing.getUserId(), existing.getRecordDate(),
-                    oldSteps, existing.getSteps(), oldSyncSeq, existing.getSyncSequence());
-
-            // Trigger activity level recalculation
-            triggerActivityLevelUpdate(existing.getUserId());
-
-            return existing.toSyncResponse(SyncStatus.ACCEPTED, "Sync successful");
-        } else {
-            log.warn("Step update rejected: userId={}, date={}, oldSteps={}, newSteps={}",
-                    existing.getUserId(), existing.getRecordDate(), oldSteps, req.getSteps());
-
-            return existing.toSyncResponse(SyncStatus.REJECTED, "Steps not increased or data is outdated");
-        }
-    }
+    private record SyncOutcome(StepCount row, StepSyncResp response, boolean changed) {}
 
     /**
      * Get user's latest weight for calorie calculation.
@@ -215,15 +266,11 @@ public class StepServiceImpl implements StepService {
     }
 
     /**
-     * Trigger activity level recalculation asynchronously.
-     * Failures are logged but don't affect the main operation.
+     * Mark the user's activity level dirty for the given days, after this transaction commits.
+     * The debounced background recalculation logs its own failures.
      */
-    private void triggerActivityLevelUpdate(Long userId) {
-        try {
-            activityLevelService.recalculateAndUpdate(userId);
-        } catch (Exception e) {
-            log.error("Failed to update activity level: userId={}", userId, e);
-        }
+    private void triggerActivityLevelUpdate(Long userId, Collection<LocalDate> days) {
+        activityLevelService.requestRecalculation(userId, days);
     }
 
 }
@@ -0,0 +1,215 @@
+package com.mobile.aura.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mobile.aura.domain.content.Tag;
+import com.mobile.aura.domain.content.TagWeight;
+import com.mobile.aura.mapper.TagMapper;
+import com.mobile.aura.service.TagAutocompleteService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of TagAutocompleteService backed by a sorted map of name_lc → tag.
+ * <p>
+ * A prefix query is a range scan over the sorted keys; only the best {@code offset + limit}
+ * matches by post count are kept, in a bounded heap, instead of sorting every match.
+ * Prefixes of one or two characters match a large share of all tags, so their top
+ * {@value #SHORT_PREFIX_TOP_N} are cached for a few seconds per snapshot; tag saves and
+ * deletes clear that cache. Change hooks run after commit so rolled-back writes never show up.
+ * The periodic reload corrects drift from writes made by other instances.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TagAutocompleteServiceImpl implements TagAutocompleteService {
+
+    private static final Comparator<Ranked> RANKING = Comparator
+            .comparingInt(Ranked::postCount).reversed()
+            .thenComparing(r -> r.entry().nameLc());
+    private static final int SHORT_PREFIX_LENGTH = 2;
+    private static final int SHORT_PREFIX_TOP_N = 100;
+    private static final Duration SHORT_PREFIX_TTL = Duration.ofSeconds(5);
+
+    private final TagMapper tagMapper;
+
+    private volatile Snapshot snapshot = new Snapshot();
+    private volatile boolean loaded;
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Tag> suggest(String prefix, int offset, int limit) {
+        String from = prefix.trim().toLowerCase(Locale.ROOT);
+        long wanted = (long) offset + limit;
+        Snapshot current = snapshot;
+        List<Ranked> ranked = from.length() <= SHORT_PREFIX_LENGTH && wanted <= SHORT_PREFIX_TOP_N
+                ? current.shortPrefixTop.get(from, p -> current.top(p, SHORT_PREFIX_TOP_N))
+                : current.top(from, (int) Math.min(wanted, Integer.MAX_VALUE));
+        return ranked.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(r -> r.entry().toTag())
+                .toList();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSaved(Tag tag) {
+        afterCommit(() -> snapshot.put(tag.getId(), tag.getName(), tag.getNameLc()));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onDeleted(Long tagId) {
+        afterCommit(() -> snapshot.remove(tagId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onPostCountsChanged(Map<Long, Integer> deltas) {
+        afterCommit(() -> {
+            Snapshot current = snapshot;
+            deltas.forEach((tagId, delta) -> {
+                Entry entry = current.byId.get(tagId);
+                if (entry != null) {
+                    entry.postCount.updateAndGet(c -> Math.max(0, c + delta));
+                }
+            });
+        });
+    }
+
+    /**
+     * Load the index once the application is up.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * Periodic full reload.
+     */
+    @Scheduled(initialDelayString = "${aura.tags.reload-interval-ms:600000}",
+            fixedDelayString = "${aura.tags.reload-interval-ms:600000}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void reload() {
+        Snapshot fresh = new Snapshot();
+        List<TagWeight> tags = tagMapper.listTagWeights();
+        tags.forEach(t -> fresh.put(t.getId(), t.getName(), t.getNameLc())
+                .postCount.set(t.getPostCount() == null ? 0 : t.getPostCount()));
+        snapshot = fresh;
+        loaded = true;
+        log.info("Loaded {} tags into the autocomplete index", tags.size());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * One generation of the index; replaced wholesale on reload.
+     */
+    private static final class Snapshot {
+        private final ConcurrentSkipListMap<String, Entry> byName = new ConcurrentSkipListMap<>();
+        private final Map<Long, Entry> byId = new ConcurrentHashMap<>();
+        /** Ranked top entries of one- and two-character prefixes */
+        private final Cache<String, List<Ranked>> shortPrefixTop = Caffeine.newBuilder()
+                .expireAfterWrite(SHORT_PREFIX_TTL)
+                .build();
+
+        /**
+         * Best {@code k} entries under a prefix, selected with a heap of size {@code k}.
+         * Post counts are read once per entry, so concurrent count updates cannot
+         * reorder the heap while it is being built.
+         */
+        List<Ranked> top(String prefix, int k) {
+            if (k <= 0) {
+                return List.of();
+            }
+            PriorityQueue<Ranked> heap = new PriorityQueue<>(Math.min(k, 1024) + 1, RANKING.reversed());
+            for (Entry entry : byName.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+                heap.offer(new Ranked(entry, entry.postCount().get()));
+                if (heap.size() > k) {
+                    heap.poll();
+                }
+            }
+            List<Ranked> top = new ArrayList<>(heap);
+            top.sort(RANKING);
+            return top;
+        }
+
+        /**
+         * Insert or rename a tag, keeping the post count of an existing entry.
+         */
+        synchronized Entry put(Long id, String name, String nameLc) {
+            Entry previous = byId.get(id);
+            Entry entry = new Entry(id, name, nameLc,
+                    previous == null ? new AtomicInteger() : previous.postCount);
+            if (previous != null) {
+                byName.remove(previous.nameLc, previous);
+            }
+            byId.put(id, entry);
+            byName.put(nameLc, entry);
+            shortPrefixTop.invalidateAll();
+            return entry;
+        }
+
+        synchronized void remove(Long id) {
+            Entry removed = byId.remove(id);
+            if (removed != null) {
+                byName.remove(removed.nameLc, removed);
+                shortPrefixTop.invalidateAll();
+            }
+        }
+    }
+
+    private record Ranked(Entry entry, int postCount) {
+    }
+
+    private record Entry(Long id, String name, String nameLc, AtomicInteger postCount) {
+        Tag toTag() {
+            Tag tag = new Tag();
+            tag.setId(id);
+            tag.setName(name);
+            tag.setNameLc(nameLc);
+            return tag;
+        }
+    }
+}
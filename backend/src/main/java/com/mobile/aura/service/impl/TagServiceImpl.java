@@ -1,22 +1,30 @@
 package com.mobile.aura.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mobile.aura.constant.TagListMode;
 import com.mobile.aura.domain.content.Post;
-import com.mobile.aura.domain.content.PostMedia;
-import com.mobile.aura.domain.content.PostStatistics;
-import com.mobile.aura.domain.content.PostTag;
 import com.mobile.aura.domain.content.Tag;
 import com.mobile.aura.dto.Cursor;
 import com.mobile.aura.dto.PageResponse;
 import com.mobile.aura.dto.post.PostCardResp;
 import com.mobile.aura.dto.tag.TagDtos.*;
 import com.mobile.aura.mapper.*;
+import com.mobile.aura.service.PostCardService;
+import com.mobile.aura.service.PostDetailCacheService;
+import com.mobile.aura.service.PostSearchService;
+import com.mobile.aura.service.TagAutocompleteService;
 import com.mobile.aura.service.TagService;
 import com.mobile.aura.support.BizException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of TagService using MyBatis XML mappers.
@@ -32,25 +40,22 @@ public class TagServiceImpl implements TagService {
     private final TagMapper tagMapper;
     private final PostTagMapper postTagMapper;
     private final PostMapper postMapper;
-    private final PostMediaMapper mediaMapper;
-    private final PostStatisticsMapper statisticsMapper;
-    private final UserBlockMapper blockMapper;
-
-    /* --------------------- Utility Methods --------------------- */
+    private final PostCardService postCardService;
+    private final TagAutocompleteService autocompleteService;
+    private final PostDetailCacheService postDetailCache;
+    private final PostSearchService postSearchService;
 
     /**
-     * Check if two users have blocked each other (either direction).
-     *
-     * @param a first user ID
-     * @param b second user ID
-     * @return true if either user has blocked the other
+     * Process-wide tag name → ID cache (lowercase names).
+     * Entries are evicted on rename and delete; a stale ID from another instance's delete
+     * only makes INSERT IGNORE skip the association.
      */
-    private boolean blockedEither(Long a, Long b) {
-        return Optional.ofNullable(a)
-                .flatMap(userA -> Optional.ofNullable(b)
-                        .map(userB -> blockMapper.existsEither(userA, userB) > 0))
-                .orElse(false);
-    }
+    private final Cache<String, Long> tagIdCache = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .build();
+
+    /* --------------------- Utility Methods --------------------- */
 
     /**
      * Retrieve a tag and ensure it's modifiable.
@@ -80,37 +85,71 @@ public class TagServiceImpl implements TagService {
     }
 
     /**
-     * Find or create a tag by name (idempotent operation).
-     * Uses case-insensitive lookup to avoid duplicate tags.
+     * Resolve tag names to IDs, creating missing tags (idempotent, set-based).
+     * Names are served from the process-wide cache first; the rest cost one
+     * {@code SELECT ... IN}, and if some are still missing one multi-row
+     * {@code INSERT IGNORE} plus one re-read (which also picks up tags created concurrently).
      *
-     * @param name the tag name
-     * @return the existing or newly created tag
+     * @param tags normalized tags to resolve (duplicates by name_lc allowed)
+     * @return tag ID by lowercase name
      */
-    private Tag findOrCreateTag(String name) {
-        Tag tag = Tag.create(name);
-
-        return Optional.ofNullable(tagMapper.findByNameLc(tag.getNameLc()))
-                .orElseGet(() -> {
-                    tagMapper.insert(tag);
-                    // Handle potential race condition with unique constraint
-                    return Optional.ofNullable(tagMapper.findByNameLc(tag.getNameLc()))
-                            .orElse(tag);
+    private Map<String, Long> resolveTagIds(List<Tag> tags) {
+        Map<String, Tag> byNameLc = tags.stream()
+                .collect(Collectors.toMap(Tag::getNameLc, t -> t, (a, b) -> a, LinkedHashMap::new));
+        Map<String, Long> ids = new HashMap<>(tagIdCache.getAllPresent(byNameLc.keySet()));
+
+        Optional.of(missingNames(byNameLc.keySet(), ids))
+                .filter(missing -> !missing.isEmpty())
+                .ifPresent(missing -> tagMapper.findByNameLcIn(missing)
+                        .forEach(tag -> ids.put(tag.getNameLc(), tag.getId())));
+
+        Optional.of(missingNames(byNameLc.keySet(), ids))
+                .filter(missing -> !missing.isEmpty())
+                .ifPresent(missing -> {
+                    tagMapper.insertIgnoreBatch(missing.stream().map(byNameLc::get).toList());
+                    tagMapper.findByNameLcIn(missing).forEach(created -> {
+                        ids.put(created.getNameLc(), created.getId());
+                        autocompleteService.onSaved(created);
+                    });
                 });
+
+        // Only committed tags may be cached: a rolled-back INSERT would leave a dangling ID
+        Map<String, Long> resolved = Map.copyOf(ids);
+        afterCommit(() -> tagIdCache.putAll(resolved));
+        return ids;
+    }
+
+    private static List<String> missingNames(Collection<String> namesLc, Map<String, Long> resolved) {
+        return namesLc.stream()
+                .filter(name -> !resolved.containsKey(name))
+                .toList();
     }
 
     /**
-     * Insert a post-tag association, ignoring duplicates.
-     *
-     * @param postId the ID of the post
-     * @param tagId the ID of the tag
+     * Drop cached name → id entries now and again once the surrounding
+     * transaction has committed, so no concurrent resolve re-caches the old mapping.
      */
-    private void insertPostTagIgnoreDuplicate(Long postId, Long tagId) {
-        PostTag postTag = PostTag.create(postId, tagId);
-        try {
-            postTagMapper.insert(postTag);
-        } catch (Exception e) {
-            // Ignore duplicate key exceptions
-        }
+    private void evictTagNames(String... namesLc) {
+        List<String> names = Arrays.stream(namesLc).filter(Objects::nonNull).toList();
+        tagIdCache.invalidateAll(names);
+        afterCommit(() -> tagIdCache.invalidateAll(names));
+    }
+
+    /**
+     * Run an action after the current transaction commits, or immediately outside one.
+     */
+    private static void afterCommit(Runnable action) {
+        Optional.of(TransactionSynchronizationManager.isSynchronizationActive())
+                .filter(Boolean::booleanValue)
+                .ifPresentOrElse(
+                        active -> TransactionSynchronizationManager.registerSynchronization(
+                                new TransactionSynchronization() {
+                                    @Override
+                                    public void afterCommit() {
+                                        action.run();
+                                    }
+                                }),
+                        action);
     }
 
     /* --------------------- CRUD Operations --------------------- */
@@ -119,8 +158,8 @@ public class TagServiceImpl implements TagService {
     @Override
     @Transactional
     public Long create(TagCreateReq req) {
-        Tag tag = findOrCreateTag(req.getName());
-        return tag.getId();
+        Tag tag = Tag.create(req.getName());
+        return resolveTagIds(List.of(tag)).get(tag.getNameLc());
     }
 
     /** {@inheritDoc} */
@@ -128,26 +167,45 @@ public class TagServiceImpl implements TagService {
     @Transactional
     public void update(Long tagId, TagUpdateReq req) {
         Tag tag = mustExistingTag(tagId);
+        String previousNameLc = tag.getNameLc();
 
         Optional.ofNullable(req.getName())
                 .ifPresent(tag::updateName);
 
         tagMapper.updateById(tag);
+        evictTagNames(previousNameLc, tag.getNameLc());
+        autocompleteService.onSaved(tag);
+
+        // Cached post details embed tag names; renames are rare enough to drop them all
+        postDetailCache.invalidateAll();
+
+        // Tag names are indexed search terms of every post carrying the tag
+        Optional.ofNullable(req.getName())
+                .ifPresent(name -> postSearchService.refreshAll(postTagMapper.listPostIdsByTagId(tagId)));
     }
 
     /** {@inheritDoc} */
     @Override
     @Transactional
     public void delete(Long tagId) {
+        Optional.ofNullable(tagMapper.selectById(tagId))
+                .ifPresent(tag -> evictTagNames(tag.getNameLc()));
+
+        // Posts that lose the tag are re-indexed after commit, without its name
+        List<Long> taggedPostIds = postTagMapper.listPostIdsByTagId(tagId);
+
         // Delete all post-tag associations first, then delete the tag
         tagMapper.deletePostTagsByTagId(tagId);
         int deletedCount = tagMapper.deleteById(tagId);
         Tag.ensureDeleted(deletedCount);
+        autocompleteService.onDeleted(tagId);
+        postDetailCache.invalidateAll();
+        postSearchService.refreshAll(taggedPostIds);
     }
 
     /** {@inheritDoc} */
     @Override
-    public PageResponse<TagResp> list(String keyword, int limit, String cursor) {
+    public PageResponse<TagResp> list(String keyword, int limit, String cursor, String mode) {
         // Normalize keyword for case-insensitive search
         String normalizedKeyword = Optional.ofNullable(keyword)
                 .filter(k -> !k.isBlank())
@@ -160,9 +218,21 @@ public class TagServiceImpl implements TagService {
                 .filter(c -> !c.isBlank())
                 .orElse(null);
 
-        List<Tag> tags = tagMapper.listTags(normalizedKeyword, normalizedCursor, limit + 1);
-
-        return Tag.toPageResponse(tags, limit);
+        // Autocomplete is served from the prefix index; browse mode (or a cold index) uses the database
+        return Optional.ofNullable(mode)
+                .filter(TagListMode::isAutocomplete)
+                .filter(m -> autocompleteService.isLoaded())
+                .map(m -> {
+                    int offset = Optional.ofNullable(normalizedCursor)
+                            .filter(c -> c.matches("\\d{1,9}"))
+                            .map(Integer::parseInt)
+                            .orElse(0);
+                    List<Tag> suggestions = autocompleteService.suggest(
+                            Optional.ofNullable(normalizedKeyword).orElse(""), offset, limit + 1);
+                    return Tag.toSuggestionPageResponse(suggestions, offset, limit);
+                })
+                .orElseGet(() -> Tag.toPageResponse(
+                        tagMapper.listTags(normalizedKeyword, normalizedCursor, limit + 1), limit));
     }
 
     /* --------------------- Post-Tag Association Operations --------------------- */
@@ -173,24 +243,38 @@ public class TagServiceImpl implements TagService {
     public void replacePostTags(Long postId, List<String> names, List<Long> tagIds, Long operatorId) {
         mustModifiablePost(postId, operatorId);
 
+        Set<Long> previousTagIds = new HashSet<>(postTagMapper.listTagIdsByPostId(postId));
+
         // Collect all tag IDs from both names and direct IDs
         Set<Long> finalTagIds = new LinkedHashSet<>();
 
-        // Process tag names - find or create tags
+        // Resolve tag names in bulk, creating missing tags
         Optional.ofNullable(names)
-                .orElse(List.of())
-                .stream()
-                .map(this::findOrCreateTag)
-                .map(Tag::getId)
-                .forEach(finalTagIds::add);
+                .filter(list -> !list.isEmpty())
+                .map(list -> list.stream().map(Tag::create).toList())
+                .map(this::resolveTagIds)
+                .ifPresent(ids -> finalTagIds.addAll(ids.values()));
 
         // Add direct tag IDs
         Optional.ofNullable(tagIds)
                 .ifPresent(finalTagIds::addAll);
 
-        // Replace all post-tag associations
-        tagMapper.deletePostTagsByPostId(postId);
-        finalTagIds.forEach(tagId -> insertPostTagIgnoreDuplicate(postId, tagId));
+        // Apply only the difference, sorted so concurrent writers lock rows in the same order
+        List<Long> removed = previousTagIds.stream().filter(id -> !finalTagIds.contains(id)).sorted().toList();
+        List<Long> added = finalTagIds.stream().filter(id -> !previousTagIds.contains(id)).sorted().toList();
+        Optional.of(removed)
+                .filter(ids -> !ids.isEmpty())
+                .ifPresent(ids -> postTagMapper.deleteByPostIdAndTagIds(postId, ids));
+        Optional.of(added)
+                .filter(ids -> !ids.isEmpty())
+                .ifPresent(ids -> postTagMapper.insertIgnoreBatch(postId, ids));
+
+        // Keep autocomplete weights in step with the association changes
+        Map<Long, Integer> countDeltas = new HashMap<>();
+        added.forEach(id -> countDeltas.put(id, 1));
+        removed.forEach(id -> countDeltas.put(id, -1));
+        autocompleteService.onPostCountsChanged(countDeltas);
+        postDetailCache.invalidate(postId);
     }
 
     /** {@inheritDoc} */
@@ -209,24 +293,6 @@ public class TagServiceImpl implements TagService {
         Cursor parsedCursor = Cursor.parse(cursor);
         List<Post> posts = tagMapper.listPostsByTagId(tagId, parsedCursor.getTimestamp(), parsedCursor.getId(), limit + 1);
 
-        // Filter out posts from blocked users
-        List<Post> filteredPosts = Optional.ofNullable(viewer)
-                .map(v -> posts.stream()
-                        .filter(post -> !blockedEither(v, post.getAuthorId()))
-                        .toList())
-                .orElse(posts);
-
-        return Post.toCardsPageResponse(
-                filteredPosts,
-                limit,
-                postId -> Optional.ofNullable(mediaMapper.findFirstByPostId(postId))
-                        .map(PostMedia::getUrl)
-                        .orElse(null),
-                postId -> {
-                    PostStatistics stats = Optional.ofNullable(statisticsMapper.selectById(postId))
-                            .orElse(PostStatistics.createForPost(postId));
-                    return new int[]{stats.getLikeCount(), stats.getCommentCount(), stats.getBookmarkCount()};
-                }
-        );
+        return Post.toCardsPageResponse(postCardService.hydrate(viewer, posts), limit);
     }
 }
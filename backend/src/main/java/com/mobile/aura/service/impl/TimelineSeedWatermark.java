@@ -0,0 +1,18 @@
+package com.mobile.aura.service.impl;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of the timeline inbox seeding, persisted as JSON in job_watermark.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+class TimelineSeedWatermark {
+    /** Highest follower ID whose inbox has been seeded from the follows it already had */
+    private Long lastUserId;
+    /** Set once seeding has passed the last follower; later follows are backfilled by onFollowed */
+    private boolean complete;
+}
@@ -0,0 +1,371 @@
+package com.mobile.aura.service.impl;
+
+import com.alibaba.fastjson2.JSON;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mobile.aura.config.AsyncExecutorConfig;
+import com.mobile.aura.config.TimelineProperties;
+import com.mobile.aura.domain.content.Post;
+import com.mobile.aura.domain.content.TimelineEntry;
+import com.mobile.aura.domain.job.JobWatermark;
+import com.mobile.aura.domain.user.UserFollow;
+import com.mobile.aura.dto.Cursor;
+import com.mobile.aura.mapper.JobWatermarkMapper;
+import com.mobile.aura.mapper.PostMapper;
+import com.mobile.aura.mapper.TimelineInboxMapper;
+import com.mobile.aura.mapper.UserFollowMapper;
+import com.mobile.aura.mapper.UserSocialStatsMapper;
+import com.mobile.aura.service.BlockSetService;
+import com.mobile.aura.service.TimelineService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Hybrid push/pull implementation of TimelineService.
+ * <p>
+ * Fan-out walks the author's followers in chunks and writes each chunk with one
+ * multi-row INSERT IGNORE, on the bounded timeline pool so publishing never waits for it.
+ * Inbox rows are only hints: the read path re-loads every post and re-checks
+ * readability, so a row left behind by a race between fan-out and retraction is
+ * harmless. Inboxes are bounded by age through {@link #purgeExpired()}.
+ * <p>
+ * An author is pushed while below the fan-out threshold but pulled from half the
+ * threshold upwards; the overlap keeps authors hovering around the threshold from
+ * falling between the two paths, and duplicates are dropped when merging.
+ * <p>
+ * Follows that predate the inboxes are seeded once, walking followers in ID order and
+ * saving the position in job_watermark. Until seeding has passed a viewer, that viewer's
+ * feed is pulled from every followee as before, so it is never empty meanwhile.
+ */
+@Slf4j
+@Service
+public class TimelineServiceImpl implements TimelineService {
+
+    static final String SEED_JOB = "timeline_inbox_seed";
+
+    private static final int PURGE_CHUNK = 5000;
+    private static final Comparator<Post> FEED_ORDER =
+            Comparator.comparing(Post::getCreatedAt).thenComparing(Post::getId).reversed();
+
+    private final TimelineInboxMapper inboxMapper;
+    private final PostMapper postMapper;
+    private final UserFollowMapper followMapper;
+    private final UserSocialStatsMapper socialStatsMapper;
+    private final BlockSetService blockSetService;
+    private final JobWatermarkMapper watermarkMapper;
+    private final TimelineProperties props;
+
+    private final TaskExecutor fanoutExecutor;
+    private final Cache<Long, List<Long>> pullAuthorsCache;
+
+    private final ReentrantLock seedLock = new ReentrantLock();
+    /** Seeding progress as last seen by this instance, loaded on first use */
+    private volatile TimelineSeedWatermark seedState;
+
+    public TimelineServiceImpl(TimelineInboxMapper inboxMapper,
+                               PostMapper postMapper,
+                               UserFollowMapper followMapper,
+                               UserSocialStatsMapper socialStatsMapper,
+                               BlockSetService blockSetService,
+                               JobWatermarkMapper watermarkMapper,
+                               TimelineProperties props,
+                               @Qualifier(AsyncExecutorConfig.TIMELINE) TaskExecutor fanoutExecutor) {
+        this.inboxMapper = inboxMapper;
+        this.postMapper = postMapper;
+        this.followMapper = followMapper;
+        this.socialStatsMapper = socialStatsMapper;
+        this.blockSetService = blockSetService;
+        this.watermarkMapper = watermarkMapper;
+        this.props = props;
+
+        this.fanoutExecutor = fanoutExecutor;
+        this.pullAuthorsCache = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofMillis(props.getPullAuthorsTtlMs()))
+                .build();
+    }
+
+    /* --------------------- Write Hooks --------------------- */
+
+    /** {@inheritDoc} */
+    @Override
+    public void onPublished(Long postId) {
+        afterCommit(() -> fanOut(postId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onRetracted(Long postId) {
+        afterCommit(() -> inboxMapper.deleteByPostId(postId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFollowed(Long followerId, Long followeeId) {
+        pullAuthorsCache.invalidate(followerId);
+        afterCommit(() -> {
+            // Pull-mode authors are merged in at read time, copying them would only duplicate rows
+            if (!isPullMode(followeeId, props.getFanoutThreshold())) {
+                inboxMapper.backfillFromAuthor(followerId, followeeId, retentionHorizon(), props.getBackfillPosts());
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onUnfollowed(Long followerId, Long followeeId) {
+        pullAuthorsCache.invalidate(followerId);
+        afterCommit(() -> inboxMapper.deleteByUserAndAuthor(followerId, followeeId));
+    }
+
+    /**
+     * Push a post into all follower inboxes, chunk by chunk.
+     * Re-reads the post so tasks that lost a race with hide/delete do nothing.
+     */
+    private void fanOut(Long postId) {
+        Post post = postMapper.selectById(postId);
+        if (post == null || !post.isReadableBy(null, null)) {
+            return;
+        }
+        if (isPullMode(post.getAuthorId(), props.getFanoutThreshold())) {
+            log.debug("Skipped fan-out of post {}: author {} is in pull mode", postId, post.getAuthorId());
+            return;
+        }
+
+        LocalDateTime afterCreatedAt = null;
+        Long afterFollowerId = null;
+        int pushed = 0;
+        List<UserFollow> chunk;
+        do {
+            chunk = followMapper.listFollowersAfter(post.getAuthorId(), afterCreatedAt, afterFollowerId, props.getFanoutBatchSize());
+            if (chunk.isEmpty()) {
+                break;
+            }
+            pushed += inboxMapper.insertIgnoreBatch(postId, post.getAuthorId(), post.getCreatedAt(),
+                    chunk.stream().map(UserFollow::getFollowerId).toList());
+            UserFollow last = chunk.get(chunk.size() - 1);
+            afterCreatedAt = last.getCreatedAt();
+            afterFollowerId = last.getFollowerId();
+        } while (chunk.size() == props.getFanoutBatchSize());
+        log.debug("Fanned out post {} to {} inboxes", postId, pushed);
+    }
+
+    private boolean isPullMode(Long authorId, int minFans) {
+        return Optional.ofNullable(socialStatsMapper.findFansCount(authorId)).orElse(0) >= minFans;
+    }
+
+    /**
+     * Run a task on the fan-out pool once the current transaction commits
+     * (immediately when there is none).
+     */
+    private void afterCommit(Runnable task) {
+        Runnable guarded = () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("Timeline task failed", e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    fanoutExecutor.execute(guarded);
+                }
+            });
+        } else {
+            fanoutExecutor.execute(guarded);
+        }
+    }
+
+    /* --------------------- Read Path --------------------- */
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Post> readFeed(Long viewer, Cursor cursor, int limit) {
+        Set<Long> blockedAuthors = blockSetService.blockSetOf(viewer);
+        BiPredicate<Long, Long> blockChecker = (v, author) -> blockedAuthors.contains(author);
+
+        if (!isSeeded(viewer)) {
+            return readPulled(viewer, cursor, limit, blockChecker);
+        }
+
+        List<Post> merged = new ArrayList<>(readInbox(viewer, cursor, limit, blockChecker));
+
+        List<Long> pullAuthors = pullAuthorsCache.get(viewer, id ->
+                followMapper.listFolloweeIdsWithMinFans(id, props.getFanoutThreshold() / 2, props.getMaxPullAuthors()));
+        if (!pullAuthors.isEmpty()) {
+            postMapper.listFollowFeed(pullAuthors, cursor.getTimestamp(), cursor.getId(), limit + 1).stream()
+                    .filter(p -> p.isReadableBy(viewer, blockChecker))
+                    .forEach(merged::add);
+        }
+
+        return merged.stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new))
+                .values().stream()
+                .sorted(FEED_ORDER)
+                .limit(limit + 1L)
+                .toList();
+    }
+
+    /**
+     * Read the feed straight from every followee's posts, for viewers whose inbox
+     * has not been seeded yet.
+     */
+    private List<Post> readPulled(Long viewer, Cursor cursor, int limit, BiPredicate<Long, Long> blockChecker) {
+        List<Long> followeeIds = followMapper.listByFollowerId(viewer).stream()
+                .map(UserFollow::getFolloweeId)
+                .toList();
+        if (followeeIds.isEmpty()) {
+            return List.of();
+        }
+        return postMapper.listFollowFeed(followeeIds, cursor.getTimestamp(), cursor.getId(), limit + 1).stream()
+                .filter(p -> p.isReadableBy(viewer, blockChecker))
+                .toList();
+    }
+
+    /**
+     * Collect up to {@code limit + 1} readable posts from the viewer's inbox,
+     * reading further pages when stale rows are filtered out.
+     */
+    private List<Post> readInbox(Long viewer, Cursor cursor, int limit, BiPredicate<Long, Long> blockChecker) {
+        List<Post> readable = new ArrayList<>();
+        LocalDateTime cursorTimestamp = cursor.getTimestamp();
+        Long cursorId = cursor.getId();
+        List<TimelineEntry> page;
+        do {
+            page = inboxMapper.listPage(viewer, cursorTimestamp, cursorId, limit + 1);
+            if (page.isEmpty()) {
+                break;
+            }
+            Map<Long, Post> loaded = postMapper.selectBatchIds(page.stream().map(TimelineEntry::getPostId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(Post::getId, Function.identity()));
+            for (TimelineEntry entry : page) {
+                Post post = loaded.get(entry.getPostId());
+                if (post != null && readable.size() <= limit && post.isReadableBy(viewer, blockChecker)) {
+                    readable.add(post);
+                }
+            }
+            TimelineEntry last = page.get(page.size() - 1);
+            cursorTimestamp = last.getCreatedAt();
+            cursorId = last.getPostId();
+        } while (readable.size() <= limit && page.size() > limit);
+        return readable;
+    }
+
+    /* --------------------- Seeding --------------------- */
+
+    /**
+     * Periodic seeding run; stops issuing queries once this instance has seen it complete.
+     */
+    @Scheduled(fixedDelayString = "${aura.timeline.seed-interval-ms:10000}")
+    public void scheduledSeed() {
+        if (props.isSeedEnabled() && !seedState().isComplete()) {
+            seedInboxes();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int seedInboxes() {
+        seedLock.lock();
+        try {
+            // Re-read: another instance may have advanced the watermark
+            TimelineSeedWatermark wm = loadSeedState();
+            seedState = wm;
+
+            int users = 0;
+            for (int i = 0; i < props.getSeedBatchesPerRun() && !wm.isComplete(); i++) {
+                List<Long> ids = followMapper.listFollowerIdsAfter(wm.getLastUserId(), props.getSeedBatchUsers());
+                if (ids.isEmpty()) {
+                    wm.setComplete(true);
+                } else {
+                    Long last = ids.get(ids.size() - 1);
+                    inboxMapper.seedFromFollows(ids.get(0), last, retentionHorizon(),
+                            props.getBackfillPosts(), props.getFanoutThreshold());
+                    wm.setLastUserId(last);
+                    users += ids.size();
+                }
+                watermarkMapper.upsert(SEED_JOB, JSON.toJSONString(wm));
+                seedState = new TimelineSeedWatermark(wm.getLastUserId(), wm.isComplete());
+            }
+
+            if (users > 0 || wm.isComplete()) {
+                log.info("Seeded timeline inboxes of {} followers, lastUserId={}, complete={}",
+                        users, wm.getLastUserId(), wm.isComplete());
+            }
+            return users;
+        } finally {
+            seedLock.unlock();
+        }
+    }
+
+    private boolean isSeeded(Long viewer) {
+        TimelineSeedWatermark state = seedState();
+        return state.isComplete() || (state.getLastUserId() != null && viewer <= state.getLastUserId());
+    }
+
+    private TimelineSeedWatermark seedState() {
+        TimelineSeedWatermark state = seedState;
+        if (state == null) {
+            state = loadSeedState();
+            seedState = state;
+        }
+        return state;
+    }
+
+    private TimelineSeedWatermark loadSeedState() {
+        return Optional.ofNullable(watermarkMapper.selectById(SEED_JOB))
+                .map(JobWatermark::getState)
+                .map(state -> JSON.parseObject(state, TimelineSeedWatermark.class))
+                .orElseGet(TimelineSeedWatermark::new);
+    }
+
+    /* --------------------- Retention --------------------- */
+
+    /**
+     * Periodic retention purge.
+     */
+    @Scheduled(fixedDelayString = "${aura.timeline.purge-interval-ms:3600000}")
+    public void scheduledPurge() {
+        purgeExpired();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int purgeExpired() {
+        LocalDateTime before = retentionHorizon();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = inboxMapper.deleteOlderThan(before, PURGE_CHUNK);
+            total += deleted;
+        } while (deleted == PURGE_CHUNK);
+        log.debug("Purged {} timeline inbox rows older than {}", total, before);
+        return total;
+    }
+
+    private LocalDateTime retentionHorizon() {
+        return LocalDateTime.now().minusDays(props.getRetentionDays());
+    }
+}
@@ -1,6 +1,9 @@
 package com.mobile.aura.service.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mobile.aura.config.FeatureSnapshotProperties;
 import com.mobile.aura.domain.user.UserFeature;
 import com.mobile.aura.domain.user.UserHealthProfile;
 import com.mobile.aura.domain.user.UserProfile;
@@ -10,24 +13,72 @@ import com.mobile.aura.mapper.UserHealthProfileMapper;
 import com.mobile.aura.mapper.UserProfileMapper;
 import com.mobile.aura.mapper.UserSocialStatsMapper;
 import com.mobile.aura.service.UserFeatureService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class UserFeatureServiceImpl implements UserFeatureService {
 
     private final UserFeatureMapper userFeatureMapper;
     private final UserProfileMapper profileMapper;
     private final UserHealthProfileMapper healthProfileMapper;
     private final UserSocialStatsMapper socialStatsMapper;
+    private final FeatureSnapshotProperties props;
+
+    /**
+     * Latest snapshot per user, so repeated exposures reuse one user_features row
+     */
+    private final Cache<Long, FeatureSnapshotRef> latestSnapshots;
+
+    public UserFeatureServiceImpl(UserFeatureMapper userFeatureMapper,
+                                  UserProfileMapper profileMapper,
+                                  UserHealthProfileMapper healthProfileMapper,
+                                  UserSocialStatsMapper socialStatsMapper,
+                                  FeatureSnapshotProperties props) {
+        this.userFeatureMapper = userFeatureMapper;
+        this.profileMapper = profileMapper;
+        this.healthProfileMapper = healthProfileMapper;
+        this.socialStatsMapper = socialStatsMapper;
+        this.props = props;
+        this.latestSnapshots = Caffeine.newBuilder()
+                .maximumSize(props.getCacheSize())
+                .build();
+    }
 
     @Override
     public Long createSnapshot(Long userId) {
+        // Within the TTL the latest snapshot is reused without touching the database
+        FeatureSnapshotRef cached = latestSnapshots.getIfPresent(userId);
+        if (cached != null && cached.isFresh(props.getSnapshotTtlMs())) {
+            return cached.id();
+        }
+
+        UserFeature feature = buildFeature(userId);
+        List<Object> fingerprint = feature.fingerprint();
+
+        // Source rows unchanged since the last snapshot: keep pointing at it
+        if (cached != null && cached.fingerprint().equals(fingerprint)) {
+            latestSnapshots.put(userId, cached.touch());
+            return cached.id();
+        }
+
+        // Insert into database
+        userFeatureMapper.insert(feature);
+        latestSnapshots.put(userId, FeatureSnapshotRef.of(feature.getId(), fingerprint));
+
+        log.debug("Created user feature snapshot for userId={}, featureId={}", userId, feature.getId());
+
+        return feature.getId();
+    }
+
+    /**
+     * Read the user's current feature values (not yet persisted).
+     */
+    private UserFeature buildFeature(Long userId) {
         UserFeature feature = new UserFeature();
         feature.setUserId(userId);
         feature.setSnapshotTime(LocalDateTime.now());
@@ -58,12 +109,7 @@ public class UserFeatureServiceImpl implements UserFeatureService {
             feature.setFollowCount(socialStats.getFollowCount());
         }
 
-        // Insert into database
-        userFeatureMapper.insert(feature);
-
-        log.debug("Created user feature snapshot for userId={}, featureId={}", userId, feature.getId());
-
-        return feature.getId();
+        return feature;
     }
 
     private static String limit(String s) {
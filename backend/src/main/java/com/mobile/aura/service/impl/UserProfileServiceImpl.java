@@ -1,5 +1,8 @@
 package com.mobile.aura.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mobile.aura.config.UserProfileProperties;
 import com.mobile.aura.domain.user.User;
 import com.mobile.aura.domain.user.UserHealthProfile;
 import com.mobile.aura.domain.user.UserProfile;
@@ -14,13 +17,19 @@ import com.mobile.aura.mapper.UserHealthProfileMapper;
 import com.mobile.aura.mapper.UserMapper;
 import com.mobile.aura.mapper.UserProfileMapper;
 import com.mobile.aura.service.UserProfileService;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -28,13 +37,32 @@ import java.util.stream.Collectors;
  * All business logic delegated to rich domain models.
  */
 @Service
-@RequiredArgsConstructor
 public class UserProfileServiceImpl implements UserProfileService {
 
     private final UserMapper userMapper;
     private final UserProfileMapper profileMapper;
     private final UserHealthProfileMapper healthProfileMapper;
 
+    /**
+     * LRU cache of nickname/avatar per user, used to decorate post cards and comments.
+     * Evicted by {@link #updateProfile}; the expiry bounds staleness across instances.
+     */
+    private final Cache<Long, UserBasicInfoResp> basicInfoCache;
+
+    public UserProfileServiceImpl(UserMapper userMapper,
+                                  UserProfileMapper profileMapper,
+                                  UserHealthProfileMapper healthProfileMapper,
+                                  UserProfileProperties props) {
+        this.userMapper = userMapper;
+        this.profileMapper = profileMapper;
+        this.healthProfileMapper = healthProfileMapper;
+
+        this.basicInfoCache = Caffeine.newBuilder()
+                .maximumSize(props.getBasicInfoCacheSize())
+                .expireAfterWrite(Duration.ofMillis(props.getBasicInfoTtlMs()))
+                .build();
+    }
+
     /**
      * Get user aggregate: basic user info + profile data + health data.
      */
@@ -89,6 +117,7 @@ public class UserProfileServiceImpl implements UserProfileService {
             user.updateNicknameIfProvided(request.getNickname());
             user.updateAvatarUrlIfProvided(request.getAvatarUrl());
             userMapper.updateById(user);
+            evictBasicInfo(userId);
         }
     }
 
@@ -139,26 +168,47 @@ public class UserProfileServiceImpl implements UserProfileService {
 
     /**
      * Get basic user information for a batch of user IDs.
-     * Efficiently fetches users in bulk, then maps to response DTOs.
-     * Now only requires a single table query since avatarUrl is in User table.
+     * Served from the basic-info LRU cache; all misses are loaded with a single query.
+     * Results follow the order of the requested IDs.
      */
     @Override
-    @Transactional(readOnly = true)
     public List<UserBasicInfoResp> getBasicInfoBatch(List<Long> userIds) {
-        if (userIds == null || userIds.isEmpty()) {
-            return List.of();
-        }
-
-        // Batch fetch users - single query
-        List<User> users = userMapper.selectBatchIds(userIds);
-        if (users.isEmpty()) {
-            return List.of();
-        }
+        return Optional.ofNullable(userIds)
+                .filter(ids -> !ids.isEmpty())
+                .map(ids -> {
+                    Map<Long, UserBasicInfoResp> found = basicInfoCache.getAll(ids, this::loadBasicInfo);
+                    return ids.stream()
+                            .distinct()
+                            .map(found::get)
+                            .filter(Objects::nonNull)
+                            .toList();
+                })
+                .orElse(List.of());
+    }
 
-        // Map users to response DTOs
-        return users.stream()
+    /**
+     * Bulk loader for basic-info cache misses; users that do not exist are left out and not cached.
+     */
+    private Map<Long, UserBasicInfoResp> loadBasicInfo(Set<? extends Long> userIds) {
+        return userMapper.selectBatchIds(userIds).stream()
                 .map(UserBasicInfoResp::from)
-                .collect(Collectors.toList());
+                .collect(Collectors.toMap(UserBasicInfoResp::getUserId, Function.identity()));
+    }
+
+    /**
+     * Drop a user's cached basic info now and again after commit, so a concurrent
+     * read cannot re-cache the pre-update row.
+     */
+    private void evictBasicInfo(Long userId) {
+        basicInfoCache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    basicInfoCache.invalidate(userId);
+                }
+            });
+        }
     }
 
     /**
@@ -2,36 +2,38 @@ package com.mobile.aura.service.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.mobile.aura.constant.CommonStatusEnum;
 import com.mobile.aura.constant.DietRule;
 import com.mobile.aura.constant.EmailCodePurpose;
 import com.mobile.aura.constant.TokenConstants;
 import com.mobile.aura.constant.UserStatus;
 import com.mobile.aura.domain.auth.RefreshToken;
 import com.mobile.aura.domain.auth.RefreshTokenPair;
-import com.mobile.aura.domain.exercise.ExerciseLog;
 import com.mobile.aura.domain.health.MealLog;
-import com.mobile.aura.domain.health.StepCount;
+import com.mobile.aura.domain.health.UserDailyHealth;
 import com.mobile.aura.domain.user.User;
 import com.mobile.aura.domain.user.UserHealthProfile;
 import com.mobile.aura.domain.user.UserProfile;
 import com.mobile.aura.domain.user.UserSocialStats;
 import com.mobile.aura.dto.user.ResetPasswordReq;
 import com.mobile.aura.dto.user.UserDtos.*;
-import com.mobile.aura.mapper.ExerciseLogMapper;
 import com.mobile.aura.mapper.MealLogMapper;
 import com.mobile.aura.mapper.RefreshTokenMapper;
-import com.mobile.aura.mapper.StepCountMapper;
 import com.mobile.aura.mapper.UserHealthProfileMapper;
 import com.mobile.aura.mapper.UserMapper;
 import com.mobile.aura.mapper.UserProfileMapper;
 import com.mobile.aura.mapper.UserSocialStatsMapper;
+import com.mobile.aura.service.DailyHealthService;
 import com.mobile.aura.service.EmailCodeService;
 import com.mobile.aura.service.GeoLocationService;
 import com.mobile.aura.service.UserService;
+import com.mobile.aura.support.BizException;
 import com.mobile.aura.support.JwtUtils;
+import com.mobile.aura.support.PooledPasswordEncoder;
+import com.mobile.aura.support.RefreshTokenCache;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,20 +42,21 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
     private final UserMapper userMapper;
     private final RefreshTokenMapper rtMapper;
-    private final BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder();
+    private final PooledPasswordEncoder bcrypt;
+    private final RefreshTokenCache refreshTokenCache;
     private final EmailCodeService emailCodeService;
     private final UserProfileMapper userProfileMapper;
     private final UserHealthProfileMapper healthProfileMapper;
     private final UserSocialStatsMapper socialStatsMapper;
     private final MealLogMapper mealLogMapper;
-    private final ExerciseLogMapper exerciseLogMapper;
-    private final StepCountMapper stepCountMapper;
+    private final DailyHealthService dailyHealthService;
     private final GeoLocationService geoLocationService;
 
     /**
@@ -142,20 +145,49 @@ public class UserServiceImpl implements UserService {
                 .eq(User::getEmail, req.getEmail())));
         u.verifyAccountStatus();
         u.verifyPasswordOrThrow(req.getPassword(), bcrypt);
+        upgradePasswordHash(u, req.getPassword());
 
         return generateTokens(u.getId(), req.getDeviceId());
     }
 
+    /**
+     * Re-encode a verified password whose hash predates the configured work factor.
+     * Best effort: a busy hashing pool or a concurrent password change leaves the old hash.
+     */
+    private void upgradePasswordHash(User u, String rawPassword) {
+        try {
+            u.rehashIfOutdated(rawPassword, bcrypt).ifPresent(previous ->
+                    userMapper.update(null, new LambdaUpdateWrapper<User>()
+                            .eq(User::getId, u.getId())
+                            .eq(User::getPassword, previous)
+                            .set(User::getPassword, u.getPassword())));
+        } catch (BizException e) {
+            log.debug("Skipped password rehash for user {}: {}", u.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Rotate a refresh token with one compare-and-swap UPDATE. Hashes that fail to rotate are
+     * rejected from memory for a while.
+     */
     @Override
     public TokenPair refresh(String refreshToken, String deviceId) {
         String hash = RefreshToken.hashToken(refreshToken);
-        RefreshToken token = RefreshToken.ensureValidOrThrow(rtMapper.selectOne(new LambdaQueryWrapper<RefreshToken>()
-                .eq(RefreshToken::getTokenHash, hash)));
+        refreshTokenCache.ensureNotKnownInvalid(hash);
+
+        String newRefreshToken = RefreshToken.newRawToken();
+        String newHash = RefreshToken.hashToken(newRefreshToken);
+        int rotated = rtMapper.rotate(hash, newHash, RefreshToken.newExpiry());
+        if (rotated != 1) {
+            refreshTokenCache.markInvalid(hash);
+        }
+        RefreshToken.ensureRotatedOrThrow(rotated);
 
+        // Null only if the device logged out between the two statements
+        Long userId = Optional.ofNullable(rtMapper.findUserIdByHash(newHash))
+                .orElseThrow(() -> new BizException(CommonStatusEnum.REFRESH_INVALID));
         String device = RefreshToken.normalizeDeviceId(deviceId);
-        String accessToken = JwtUtils.createAccess(token.getUserId(), device, TokenConstants.ACCESS_TTL_SEC);
-        String newRefreshToken = token.rotateToken();
-        rtMapper.updateById(token);
+        String accessToken = JwtUtils.createAccess(userId, device, TokenConstants.ACCESS_TTL_SEC);
 
         return new TokenPair(accessToken, newRefreshToken);
     }
@@ -200,11 +232,8 @@ public class UserServiceImpl implements UserService {
         String device = RefreshToken.normalizeDeviceId(deviceId);
         String accessToken = JwtUtils.createAccess(userId, device, TokenConstants.ACCESS_TTL_SEC);
 
-        RefreshToken existingToken = rtMapper.selectOne(new LambdaQueryWrapper<RefreshToken>()
-                .eq(RefreshToken::getUserId, userId)
-                .eq(RefreshToken::getDeviceId, device));
-
-        RefreshTokenPair tokenPair = RefreshToken.createForUserDevice(userId, deviceId, existingToken);
+        // Upsert on uk_user_device replaces the device's previous token
+        RefreshTokenPair tokenPair = RefreshToken.createForUserDevice(userId, device);
         tokenPair.saveTo(rtMapper);
 
         return new TokenPair(accessToken, tokenPair.rawToken());
@@ -296,72 +325,37 @@ public class UserServiceImpl implements UserService {
 
     /**
      * Get calories produced (intake) for a specific date.
-     * Service layer: Fetch meal logs via mapper.
-     * Domain layer: Sum calories using stream operations.
+     * Service layer: Read the day's row of the daily health rollup.
      */
     @Override
     @Transactional(readOnly = true)
     public Integer getCaloriesProduced(Long userId, LocalDate date) {
-        LocalDate effectiveDate = date != null ? date : LocalDate.now();
-
-        // Service layer: Fetch meal logs for the date
-        List<MealLog> mealLogs = mealLogMapper.selectList(new LambdaQueryWrapper<MealLog>()
-                .eq(MealLog::getUserId, userId)
-                .eq(MealLog::getMealDate, effectiveDate)
-                .isNull(MealLog::getDeletedAt));
-
-        // Domain logic: Calculate total calories (same as DailySummaryResp)
-        return mealLogs.stream()
-                .mapToInt(MealLog::getKcal)
-                .sum();
+        return dailyHealthService.getDay(userId, date != null ? date : LocalDate.now()).caloriesIn();
     }
 
     /**
      * Get calories consumed (burned) for a specific date.
-     * Service layer: Fetch exercise logs and step count via mappers.
-     * Domain layer: Sum calories from both sources.
+     * Service layer: Read the day's row of the daily health rollup.
+     * Domain layer: Exercise plus step calories.
      */
     @Override
     @Transactional(readOnly = true)
     public Integer getCaloriesConsumed(Long userId, LocalDate date) {
-        LocalDate effectiveDate = date != null ? date : LocalDate.now();
-
-        // Service layer: Fetch exercise logs for the date
-        List<ExerciseLog> exerciseLogs = exerciseLogMapper.selectList(new LambdaQueryWrapper<ExerciseLog>()
-                .eq(ExerciseLog::getUserId, userId)
-                .eq(ExerciseLog::getExerciseDate, effectiveDate)
-                .isNull(ExerciseLog::getDeletedAt));
-
-        // Domain logic: Sum exercise calories
-        int exerciseCalories = exerciseLogs.stream()
-                .mapToInt(ExerciseLog::getKcal)
-                .sum();
-
-        // Service layer: Fetch step count for the date
-        StepCount stepCount = stepCountMapper.selectOne(new LambdaQueryWrapper<StepCount>()
-                .eq(StepCount::getUserId, userId)
-                .eq(StepCount::getRecordDate, effectiveDate));
-
-        // Domain logic: Get step calories (0 if no record)
-        int stepCalories = stepCount != null && stepCount.getKcal() != null ? stepCount.getKcal() : 0;
-
-        // Total consumed = exercise + steps
-        return exerciseCalories + stepCalories;
+        return dailyHealthService.getDay(userId, date != null ? date : LocalDate.now()).caloriesOut();
     }
 
     /**
      * Get daily calories summary (aggregate).
-     * Service layer: Orchestrate calls to getCaloriesProduced and getCaloriesConsumed.
+     * Service layer: Both totals come from one read of the daily health rollup.
      */
     @Override
     @Transactional(readOnly = true)
     public Map<String, Integer> getDailyCaloriesSummary(Long userId, LocalDate date) {
-        Integer caloriesProduced = getCaloriesProduced(userId, date);
-        Integer caloriesConsumed = getCaloriesConsumed(userId, date);
+        UserDailyHealth day = dailyHealthService.getDay(userId, date != null ? date : LocalDate.now());
 
         return Map.of(
-                "caloriesProduced", caloriesProduced,
-                "caloriesConsumed", caloriesConsumed
+                "caloriesProduced", day.caloriesIn(),
+                "caloriesConsumed", day.caloriesOut()
         );
     }
 }
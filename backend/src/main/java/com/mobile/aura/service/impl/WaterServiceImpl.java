@@ -7,6 +7,7 @@ import com.mobile.aura.domain.user.UserHealthProfile;
 import com.mobile.aura.dto.water.*;
 import com.mobile.aura.mapper.UserHealthProfileMapper;
 import com.mobile.aura.mapper.WaterIntakeMapper;
+import com.mobile.aura.service.DailyHealthService;
 import com.mobile.aura.service.WaterService;
 import com.mobile.aura.support.BizException;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +31,7 @@ public class WaterServiceImpl implements WaterService {
 
     private final WaterIntakeMapper mapper;
     private final UserHealthProfileMapper healthProfileMapper;
+    private final DailyHealthService dailyHealthService;
 
     @Override
     @Transactional
@@ -47,6 +49,7 @@ public class WaterServiceImpl implements WaterService {
             existing.updateAmount(amountMl);
             mapper.updateById(existing);
         }
+        dailyHealthService.setWater(userId, effectiveDate, amountMl);
     }
 
     @Override
@@ -65,6 +68,7 @@ public class WaterServiceImpl implements WaterService {
             existing.incrementAmount(incrementMl);
             mapper.updateById(existing);
         }
+        dailyHealthService.setWater(userId, effectiveDate, existing == null ? incrementMl : existing.getAmountMl());
 
         // Add to quick records
         addToQuickRecords(userId, incrementMl);
@@ -98,6 +102,7 @@ public class WaterServiceImpl implements WaterService {
         mapper.delete(new LambdaQueryWrapper<WaterIntake>()
                 .eq(WaterIntake::getUserId, userId)
                 .eq(WaterIntake::getIntakeDate, effectiveDate));
+        dailyHealthService.setWater(userId, effectiveDate, 0);
     }
 
     @Override
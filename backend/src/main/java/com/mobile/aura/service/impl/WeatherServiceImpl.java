@@ -1,19 +1,60 @@
 package com.mobile.aura.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mobile.aura.config.AsyncExecutorConfig;
+import com.mobile.aura.config.WeatherProperties;
 import com.mobile.aura.service.WeatherService;
+import com.mobile.aura.support.CircuitBreaker;
+import com.mobile.aura.support.CompletableTask;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+/**
+ * Open-Meteo implementation of WeatherService.
+ * <p>
+ * Readings are cached per location, with coordinates rounded to a grid so nearby lookups
+ * share an entry. A reading older than the fresh TTL is still returned while one
+ * background refresh replaces it (stale-while-revalidate); past the stale TTL it is
+ * dropped. Concurrent misses for the same location wait on a single fetch. Fetches have
+ * connect/read timeouts and go through a circuit breaker, so a slow or failing upstream
+ * costs at most one timeout per breaker window instead of one per exposure.
+ */
 @Slf4j
 @Service
 public class WeatherServiceImpl implements WeatherService {
 
-    private static final String OPEN_METEO_API = "https://api.open-meteo.com/v1/forecast";
-    private final RestTemplate restTemplate = new RestTemplate();
+    private static final String UNKNOWN = "Unknown";
+
+    private final WeatherProperties props;
+    private final RestTemplate restTemplate;
+    private final TaskExecutor refreshExecutor;
+    private final CircuitBreaker breaker;
+
+    private final Cache<Location, Reading> readings;
+    private final Map<Location, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter fetchSuccess;
+    private final Counter fetchFailure;
+    private final Counter fetchRejected;
 
     // City coordinates cache (you can expand this or use a geocoding service)
     private static final Map<String, double[]> CITY_COORDS = new HashMap<>();
@@ -38,38 +79,48 @@ public class WeatherServiceImpl implements WeatherService {
         CITY_COORDS.put("sydney", new double[]{-33.8688, 151.2093});
     }
 
-    @Override
-    @SuppressWarnings("unchecked")
-    public String getCurrentWeather(double latitude, double longitude) {
-        try {
-            String url = String.format(
-                "%s?latitude=%.4f&longitude=%.4f&current_weather=true",
-                OPEN_METEO_API, latitude, longitude
-            );
+    public WeatherServiceImpl(WeatherProperties props,
+                              @Qualifier(AsyncExecutorConfig.WEATHER) TaskExecutor refreshExecutor,
+                              MeterRegistry registry) {
+        this.props = props;
+        this.refreshExecutor = refreshExecutor;
 
-            Map<String, Object> response = restTemplate.getForObject(url, Map.class);
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(props.getConnectTimeoutMs());
+        requestFactory.setReadTimeout(props.getReadTimeoutMs());
+        this.restTemplate = new RestTemplate(requestFactory);
 
-            if (response != null && response.containsKey("current_weather")) {
-                Object currentWeatherObj = response.get("current_weather");
-                if (currentWeatherObj instanceof Map) {
-                    Map<String, Object> currentWeather = (Map<String, Object>) currentWeatherObj;
-                    Object weatherCodeObj = currentWeather.get("weathercode");
-                    if (weatherCodeObj instanceof Number) {
-                        Integer weatherCode = ((Number) weatherCodeObj).intValue();
-                        return mapWeatherCode(weatherCode);
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.warn("Failed to fetch weather for coordinates ({}, {}): {}", latitude, longitude, e.getMessage());
+        this.breaker = new CircuitBreaker("weather", props.getBreakerFailureThreshold(), props.getBreakerOpenMs());
+        this.readings = Caffeine.newBuilder()
+                .maximumSize(props.getCacheSize())
+                .expireAfterWrite(Duration.ofMillis(props.getStaleTtlMs()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(registry, readings, "weather");
+        this.fetchSuccess = registry.counter("aura.weather.fetch", "outcome", "success");
+        this.fetchFailure = registry.counter("aura.weather.fetch", "outcome", "failure");
+        this.fetchRejected = registry.counter("aura.weather.fetch", "outcome", "breaker_open");
+        registry.gauge("aura.weather.breaker.open", breaker, b -> b.isOpen() ? 1 : 0);
+    }
+
+    @Override
+    public String getCurrentWeather(double latitude, double longitude) {
+        Location location = Location.of(latitude, longitude, props.getCoordinatePrecision());
+        Reading reading = readings.getIfPresent(location);
+        if (reading == null) {
+            return await(fetchCoalesced(location, false));
         }
-        return "Unknown";
+        if (reading.isOlderThan(props.getFreshTtlMs())) {
+            fetchCoalesced(location, true);
+        }
+        return reading.description();
     }
 
     @Override
     public String getCurrentWeatherByCity(String cityName) {
         if (cityName == null || cityName.isBlank()) {
-            return "Unknown";
+            return UNKNOWN;
         }
 
         String normalizedCity = cityName.toLowerCase().trim();
@@ -80,7 +131,85 @@ public class WeatherServiceImpl implements WeatherService {
         }
 
         log.warn("City not found in cache: {}", cityName);
-        return "Unknown";
+        return UNKNOWN;
+    }
+
+    /**
+     * Join the in-flight fetch for a location or start one. A miss runs the fetch on the
+     * calling thread; a background refresh runs it on the weather pool.
+     */
+    private CompletableFuture<String> fetchCoalesced(Location location, boolean background) {
+        CompletableTask<String> mine = CompletableTask.of(() -> fetch(location));
+        CompletableFuture<String> existing = inFlight.putIfAbsent(location, mine);
+        if (existing != null) {
+            return existing;
+        }
+        // Also runs when the pool drops (cancels) the task, so the location can be fetched again
+        mine.whenComplete((description, failure) -> inFlight.remove(location, mine));
+        if (background) {
+            try {
+                refreshExecutor.execute(mine);
+            } catch (RuntimeException e) {
+                // Full pool: keep serving the stale reading. Completing the entry removes it
+                // and releases callers that already joined it; rejections are metered by the pool
+                mine.completeExceptionally(e);
+                log.debug("Weather refresh for ({}, {}) was not scheduled: {}",
+                        location.latitude(), location.longitude(), e.getMessage());
+            }
+        } else {
+            mine.run();
+        }
+        return mine;
+    }
+
+    /**
+     * Wait for a fetch at most as long as one upstream call may take. A fetch that was
+     * queued behind others, dropped or failed reads as unknown weather.
+     */
+    private String await(CompletableFuture<String> fetch) {
+        try {
+            return fetch.get(props.getConnectTimeoutMs() + props.getReadTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return UNKNOWN;
+        } catch (ExecutionException | TimeoutException | CancellationException e) {
+            return UNKNOWN;
+        }
+    }
+
+    /**
+     * Call the upstream API and cache the result. Failures are not cached, so an existing
+     * reading keeps being served until it passes the stale TTL.
+     */
+    @SuppressWarnings("unchecked")
+    private String fetch(Location location) {
+        if (!breaker.allowRequest()) {
+            fetchRejected.increment();
+            return UNKNOWN;
+        }
+        try {
+            String url = String.format(Locale.ROOT,
+                "%s?latitude=%.4f&longitude=%.4f&current_weather=true",
+                props.getBaseUrl(), location.latitude(), location.longitude()
+            );
+
+            Map<String, Object> response = restTemplate.getForObject(url, Map.class);
+            breaker.recordSuccess();
+            fetchSuccess.increment();
+
+            if (response != null && response.get("current_weather") instanceof Map<?, ?> currentWeather
+                    && currentWeather.get("weathercode") instanceof Number weatherCode) {
+                String description = mapWeatherCode(weatherCode.intValue());
+                readings.put(location, new Reading(description, System.nanoTime()));
+                return description;
+            }
+        } catch (Exception e) {
+            breaker.recordFailure();
+            fetchFailure.increment();
+            log.warn("Failed to fetch weather for coordinates ({}, {}): {}",
+                    location.latitude(), location.longitude(), e.getMessage());
+        }
+        return UNKNOWN;
     }
 
     /**
@@ -88,7 +217,7 @@ public class WeatherServiceImpl implements WeatherService {
      * Reference: https://open-meteo.com/en/docs
      */
     private String mapWeatherCode(Integer code) {
-        if (code == null) return "Unknown";
+        if (code == null) return UNKNOWN;
 
         return switch (code) {
             case 0 -> "Clear";
@@ -100,7 +229,28 @@ public class WeatherServiceImpl implements WeatherService {
             case 80, 81, 82 -> "Showers";
             case 85, 86 -> "Snow Showers";
             case 95, 96, 99 -> "Thunderstorm";
-            default -> "Unknown";
+            default -> UNKNOWN;
         };
     }
+
+    /**
+     * Coordinates rounded to the cache grid.
+     */
+    private record Location(double latitude, double longitude) {
+
+        static Location of(double latitude, double longitude, int precision) {
+            double scale = Math.pow(10, precision);
+            return new Location(Math.round(latitude * scale) / scale, Math.round(longitude * scale) / scale);
+        }
+    }
+
+    /**
+     * A cached weather description and when it was fetched.
+     */
+    private record Reading(String description, long fetchedAtNanos) {
+
+        boolean isOlderThan(long ageMs) {
+            return System.nanoTime() - fetchedAtNanos > ageMs * 1_000_000;
+        }
+    }
 }
@@ -12,6 +12,7 @@ import com.mobile.aura.dto.weight.WeightRangeResp;
 import com.mobile.aura.dto.weight.WeightSubmitReq;
 import com.mobile.aura.mapper.UserHealthProfileMapper;
 import com.mobile.aura.mapper.UserWeightLogMapper;
+import com.mobile.aura.service.DailyHealthService;
 import com.mobile.aura.service.WeightService;
 import com.mobile.aura.support.BizException;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +32,7 @@ public class WeightServiceImpl implements WeightService {
 
     private final UserWeightLogMapper logMapper;
     private final UserHealthProfileMapper healthProfileMapper;
+    private final DailyHealthService dailyHealthService;
 
     @Override
     @Transactional
@@ -48,6 +50,7 @@ public class WeightServiceImpl implements WeightService {
             existing.update(req);
             logMapper.updateById(existing);
         }
+        dailyHealthService.setWeight(userId, day, req.getWeightKg());
 
         updateHealthProfile(userId, req.getWeightKg(), day);
     }
@@ -0,0 +1,149 @@
+package com.mobile.aura.support;
+
+import com.mobile.aura.config.AsyncExecutorProperties;
+import com.mobile.aura.constant.OverflowPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed-size thread pool with a bounded queue and an explicit overflow policy.
+ * <p>
+ * Publishes the standard {@code executor.*} meters (queue depth, active threads, completed
+ * tasks) tagged {@code name=<pool>}, plus {@code aura.async.rejected} per overflow outcome
+ * and {@code aura.async.spilled.pending} for parked tasks. Spilled tasks are re-submitted
+ * by {@link #resubmitSpilled()} once the queue has room again. A dropped task that is a
+ * {@link Future} (e.g. a {@link CompletableTask}) is cancelled so its callers stop waiting.
+ */
+@Slf4j
+public class BoundedTaskExecutor implements TaskExecutor {
+
+    @Getter
+    private final String name;
+    private final OverflowPolicy policy;
+    private final ThreadPoolExecutor pool;
+    private final Map<Object, SpillableTask> spilled = new ConcurrentHashMap<>();
+
+    private final Counter callerRuns;
+    private final Counter droppedOldest;
+    private final Counter parked;
+    private final Counter rejected;
+
+    public BoundedTaskExecutor(String name, AsyncExecutorProperties.Pool config, boolean virtualThreads,
+                               MeterRegistry registry) {
+        this.name = name;
+        this.policy = config.getOverflow();
+
+        ThreadFactory threads = virtualThreads
+                ? Thread.ofVirtual().name("async-" + name + "-", 0).factory()
+                : Thread.ofPlatform().name("async-" + name + "-", 0).daemon(true).factory();
+        this.pool = new ThreadPoolExecutor(
+                config.getThreads(), config.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                threads,
+                (task, executor) -> onOverflow(task));
+
+        new ExecutorServiceMetrics(pool, name, Tags.empty()).bindTo(registry);
+        this.callerRuns = registry.counter("aura.async.rejected", "pool", name, "outcome", "caller_runs");
+        this.droppedOldest = registry.counter("aura.async.rejected", "pool", name, "outcome", "dropped_oldest");
+        this.parked = registry.counter("aura.async.rejected", "pool", name, "outcome", "spilled");
+        this.rejected = registry.counter("aura.async.rejected", "pool", name, "outcome", "rejected");
+        registry.gaugeMapSize("aura.async.spilled.pending", Tags.of("pool", name), spilled);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws TaskRejectedException if the queue is full and the pool's policy is REJECT
+     */
+    @Override
+    public void execute(Runnable task) {
+        pool.execute(task);
+    }
+
+    /**
+     * Move parked tasks back into the queue while it has room.
+     *
+     * @return number of re-submitted tasks
+     */
+    public int resubmitSpilled() {
+        int resubmitted = 0;
+        Iterator<SpillableTask> it = spilled.values().iterator();
+        while (it.hasNext() && pool.getQueue().remainingCapacity() > 0) {
+            SpillableTask task = it.next();
+            it.remove();
+            pool.execute(task);
+            resubmitted++;
+        }
+        return resubmitted;
+    }
+
+    /**
+     * Stop accepting tasks, finish queued ones and run whatever is still parked.
+     */
+    public void shutdown() throws InterruptedException {
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+        spilled.values().forEach(this::runQuietly);
+        spilled.clear();
+    }
+
+    private void onOverflow(Runnable task) {
+        if (pool.isShutdown()) {
+            // Late tasks during shutdown still run so after-commit work is not lost
+            runQuietly(task);
+            return;
+        }
+        switch (policy) {
+            case DROP_OLDEST -> {
+                Runnable oldest = pool.getQueue().poll();
+                droppedOldest.increment();
+                log.warn("Async pool '{}' is full, dropped oldest task {}", name, oldest);
+                if (oldest instanceof Future<?> future) {
+                    future.cancel(false);
+                }
+                pool.execute(task);
+            }
+            case SPILL -> {
+                if (task instanceof SpillableTask spillable) {
+                    spilled.put(spillable.spillKey(), spillable);
+                    parked.increment();
+                } else {
+                    callerRuns.increment();
+                    task.run();
+                }
+            }
+            case REJECT -> {
+                rejected.increment();
+                throw new TaskRejectedException("Async pool '" + name + "' is full");
+            }
+            default -> {
+                callerRuns.increment();
+                task.run();
+            }
+        }
+    }
+
+    private void runQuietly(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.warn("Async task on pool '{}' failed", name, e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.mobile.aura.support;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minimal consecutive-failure circuit breaker for calls to an external service.
+ * <p>
+ * After {@code failureThreshold} failures in a row the breaker opens and
+ * {@link #allowRequest()} returns false for {@code openMs}. Then a single trial call is
+ * let through (half-open): success closes the breaker, failure opens it again.
+ */
+public class CircuitBreaker {
+
+    @Getter
+    private final String name;
+    private final int failureThreshold;
+    private final long openMs;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openUntil = new AtomicLong();
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+
+    public CircuitBreaker(String name, int failureThreshold, long openMs) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openMs = openMs;
+    }
+
+    /**
+     * Whether a call may be made now. While half-open only one caller gets true.
+     *
+     * @return true when the call may proceed
+     */
+    public boolean allowRequest() {
+        if (consecutiveFailures.get() < failureThreshold) {
+            return true;
+        }
+        return System.currentTimeMillis() >= openUntil.get() && trialInFlight.compareAndSet(false, true);
+    }
+
+    /**
+     * Record a successful call, closing the breaker.
+     */
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        trialInFlight.set(false);
+    }
+
+    /**
+     * Record a failed call, opening the breaker once the threshold is reached.
+     */
+    public void recordFailure() {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openUntil.set(System.currentTimeMillis() + openMs);
+        }
+        trialInFlight.set(false);
+    }
+
+    /**
+     * @return true while calls are being rejected
+     */
+    public boolean isOpen() {
+        return consecutiveFailures.get() >= failureThreshold && System.currentTimeMillis() < openUntil.get();
+    }
+}
@@ -0,0 +1,132 @@
+package com.mobile.aura.support;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Tokenizer for mixed Chinese/English text.
+ * <p>
+ * Text is NFKC-normalized (full-width letters become ASCII) and lower-cased, then split into:
+ * <ul>
+ *   <li>latin runs (letters and digits) → one word token each;</li>
+ *   <li>CJK runs (Han, Kana, Hangul) → overlapping bigrams, plus unigrams on the index side
+ *       so one-character queries still match.</li>
+ * </ul>
+ * Everything else separates tokens.
+ */
+public final class CjkBigramTokenizer {
+
+    private CjkBigramTokenizer() {
+    }
+
+    /**
+     * A query term. Latin words of two or more characters match any indexed word they prefix,
+     * so partially typed words still find results.
+     *
+     * @param term normalized term
+     * @param prefix whether the term matches as a prefix
+     */
+    public record QueryTerm(String term, boolean prefix) {
+    }
+
+    /**
+     * Tokenize text for indexing.
+     *
+     * @param text source text (nullable)
+     * @return term frequency per term
+     */
+    public static Map<String, Integer> indexTerms(String text) {
+        Map<String, Integer> tf = new HashMap<>();
+        for (Run run : runs(text)) {
+            if (!run.cjk) {
+                tf.merge(run.text, 1, Integer::sum);
+                continue;
+            }
+            int[] cps = run.text.codePoints().toArray();
+            for (int i = 0; i < cps.length; i++) {
+                tf.merge(new String(cps, i, 1), 1, Integer::sum);
+                if (i + 1 < cps.length) {
+                    tf.merge(new String(cps, i, 2), 1, Integer::sum);
+                }
+            }
+        }
+        return tf;
+    }
+
+    /**
+     * Tokenize a search query. CJK runs longer than one character become bigrams only.
+     *
+     * @param text query text (nullable)
+     * @return distinct query terms in order of appearance
+     */
+    public static List<QueryTerm> queryTerms(String text) {
+        List<QueryTerm> terms = new ArrayList<>();
+        for (Run run : runs(text)) {
+            if (!run.cjk) {
+                addDistinct(terms, new QueryTerm(run.text, run.text.length() >= 2));
+                continue;
+            }
+            int[] cps = run.text.codePoints().toArray();
+            if (cps.length == 1) {
+                addDistinct(terms, new QueryTerm(run.text, false));
+            }
+            for (int i = 0; i + 1 < cps.length; i++) {
+                addDistinct(terms, new QueryTerm(new String(cps, i, 2), false));
+            }
+        }
+        return terms;
+    }
+
+    private static void addDistinct(List<QueryTerm> terms, QueryTerm term) {
+        if (!terms.contains(term)) {
+            terms.add(term);
+        }
+    }
+
+    private record Run(String text, boolean cjk) {
+    }
+
+    private static List<Run> runs(String text) {
+        List<Run> runs = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return runs;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder current = new StringBuilder();
+        boolean currentCjk = false;
+        for (int i = 0; i < normalized.length(); ) {
+            int cp = normalized.codePointAt(i);
+            i += Character.charCount(cp);
+            boolean cjk = isCjk(cp);
+            boolean word = cjk || Character.isLetterOrDigit(cp);
+            if (!word || (!current.isEmpty() && cjk != currentCjk)) {
+                flush(runs, current, currentCjk);
+            }
+            if (word) {
+                current.appendCodePoint(cp);
+                currentCjk = cjk;
+            }
+        }
+        flush(runs, current, currentCjk);
+        return runs;
+    }
+
+    private static void flush(List<Run> runs, StringBuilder current, boolean cjk) {
+        if (!current.isEmpty()) {
+            runs.add(new Run(current.toString(), cjk));
+            current.setLength(0);
+        }
+    }
+
+    private static boolean isCjk(int cp) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(cp);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -0,0 +1,45 @@
+package com.mobile.aura.support;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * A task that is its own result future.
+ * <p>
+ * Unlike {@link CompletableFuture#supplyAsync}, whose runnable is hidden from the executor,
+ * an executor that drops this task can cancel it, which releases every caller waiting on it.
+ * A task that was cancelled or timed out before a thread picked it up does not run.
+ *
+ * @param <T> result type
+ */
+public final class CompletableTask<T> extends CompletableFuture<T> implements Runnable {
+
+    private final Supplier<T> body;
+
+    private CompletableTask(Supplier<T> body) {
+        this.body = body;
+    }
+
+    /**
+     * Wrap a supplier as a task; submit it with {@code executor.execute(task)}.
+     *
+     * @param body the work
+     * @param <T> result type
+     * @return task that completes with the supplier's result or exception
+     */
+    public static <T> CompletableTask<T> of(Supplier<T> body) {
+        return new CompletableTask<>(body);
+    }
+
+    @Override
+    public void run() {
+        if (isDone()) {
+            return;
+        }
+        try {
+            complete(body.get());
+        } catch (Throwable e) {
+            completeExceptionally(e);
+        }
+    }
+}
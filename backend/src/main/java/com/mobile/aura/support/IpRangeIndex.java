@@ -0,0 +1,179 @@
+package com.mobile.aura.support;
+
+import com.mobile.aura.service.GeoLocationService.LocationInfo;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Offline IPv4 range → location index built from a CIDR CSV.
+ * <p>
+ * Each line is {@code cidr,countryCode,city} (e.g. {@code 1.0.1.0/24,CN,Fuzhou}); blank lines,
+ * {@code #} comments and a header starting with {@code cidr} are skipped. Ranges are kept as
+ * sorted {@code long} start/end arrays with an index into a de-duplicated location table,
+ * so a lookup is one binary search with no boxing. Ranges are expected not to overlap;
+ * where they do, the range starting first is kept and the other is dropped.
+ */
+@Slf4j
+public final class IpRangeIndex {
+
+    private final long[] starts;
+    private final long[] ends;
+    private final int[] locationIds;
+    private final LocationInfo[] locations;
+
+    private IpRangeIndex(long[] starts, long[] ends, int[] locationIds, LocationInfo[] locations) {
+        this.starts = starts;
+        this.ends = ends;
+        this.locationIds = locationIds;
+        this.locations = locations;
+    }
+
+    /**
+     * Load and index a CIDR CSV file.
+     *
+     * @param path CSV file
+     * @return the index
+     * @throws IOException if the file cannot be read
+     */
+    public static IpRangeIndex load(Path path) throws IOException {
+        List<long[]> ranges = new ArrayList<>();
+        Map<LocationInfo, Integer> ids = new HashMap<>();
+        List<LocationInfo> table = new ArrayList<>();
+        int malformed = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#") || line.regionMatches(true, 0, "cidr", 0, 4)) {
+                    continue;
+                }
+                String[] cols = line.split(",", -1);
+                long[] range = cols.length < 2 ? null : parseCidr(cols[0].trim());
+                if (range == null) {
+                    malformed++;
+                    continue;
+                }
+                LocationInfo location = new LocationInfo(blankToNull(cols[1]), cols.length > 2 ? blankToNull(cols[2]) : null);
+                int id = ids.computeIfAbsent(location, l -> {
+                    table.add(l);
+                    return table.size() - 1;
+                });
+                ranges.add(new long[]{range[0], range[1], id});
+            }
+        }
+
+        ranges.sort(Comparator.comparingLong(r -> r[0]));
+        long[] starts = new long[ranges.size()];
+        long[] ends = new long[ranges.size()];
+        int[] locationIds = new int[ranges.size()];
+        int n = 0;
+        int overlapping = 0;
+        for (long[] r : ranges) {
+            if (n > 0 && r[0] <= ends[n - 1]) {
+                overlapping++;
+                continue;
+            }
+            starts[n] = r[0];
+            ends[n] = r[1];
+            locationIds[n] = (int) r[2];
+            n++;
+        }
+        log.info("Loaded IP range index from {}: {} ranges, {} locations, {} malformed, {} overlapping skipped",
+                path, n, table.size(), malformed, overlapping);
+        return new IpRangeIndex(Arrays.copyOf(starts, n), Arrays.copyOf(ends, n), Arrays.copyOf(locationIds, n),
+                table.toArray(LocationInfo[]::new));
+    }
+
+    /**
+     * Find the location of an IPv4 address.
+     *
+     * @param ipv4 address as returned by {@link #parseIpv4(String)}
+     * @return location, or null when no range contains it
+     */
+    public LocationInfo find(long ipv4) {
+        int i = Arrays.binarySearch(starts, ipv4);
+        if (i < 0) {
+            // Greatest start below the address
+            i = -i - 2;
+        }
+        return i >= 0 && ipv4 <= ends[i] ? locations[locationIds[i]] : null;
+    }
+
+    /**
+     * @return number of indexed ranges
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * Parse a dotted IPv4 address without any DNS lookup.
+     *
+     * @param ip text address
+     * @return the address as an unsigned 32-bit value, or -1 when it is not IPv4
+     */
+    public static long parseIpv4(String ip) {
+        if (ip == null) {
+            return -1;
+        }
+        long value = 0;
+        int octet = -1;
+        int dots = 0;
+        for (int i = 0; i < ip.length(); i++) {
+            char c = ip.charAt(i);
+            if (c >= '0' && c <= '9') {
+                octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+                if (octet > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && octet >= 0 && dots < 3) {
+                value = (value << 8) | octet;
+                octet = -1;
+                dots++;
+            } else {
+                return -1;
+            }
+        }
+        return dots == 3 && octet >= 0 ? (value << 8) | octet : -1;
+    }
+
+    /**
+     * @return {start, end} of an IPv4 CIDR block, or null when malformed
+     */
+    private static long[] parseCidr(String cidr) {
+        int slash = cidr.indexOf('/');
+        long base = parseIpv4(slash < 0 ? cidr : cidr.substring(0, slash));
+        if (base < 0) {
+            return null;
+        }
+        int prefix;
+        try {
+            prefix = slash < 0 ? 32 : Integer.parseInt(cidr.substring(slash + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (prefix < 0 || prefix > 32) {
+            return null;
+        }
+        long size = 1L << (32 - prefix);
+        long start = base & ~(size - 1) & 0xFFFFFFFFL;
+        return new long[]{start, start + size - 1};
+    }
+
+    private static String blankToNull(String value) {
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
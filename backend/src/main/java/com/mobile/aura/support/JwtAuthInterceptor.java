@@ -1,9 +1,13 @@
-
 package com.mobile.aura.support;
 
 import com.alibaba.fastjson2.JSON;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.mobile.aura.constant.CommonStatusEnum;
 import com.mobile.aura.dto.ResponseResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
@@ -11,6 +15,12 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
 // support/JwtAuthInterceptor.java
 @Slf4j
 @Component
@@ -18,26 +28,60 @@ public class JwtAuthInterceptor implements HandlerInterceptor {
     public static final String ATTR_USER_ID = "X-User-Id";
     public static final String ATTR_DEVICE  = "X-Device-Id";
 
+    private static final int VERIFIED_CACHE_SIZE = 100_000;
+
+    /**
+     * Tokens whose signature has already been checked, keyed by a hash of the token so raw
+     * tokens are not kept in memory. Each entry expires at the token's own exp; access tokens
+     * are not revocable before that, so a cached entry never outlives a valid token.
+     */
+    private final Cache<TokenKey, JwtUtils.Verified> verified = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_CACHE_SIZE)
+            .expireAfter(new Expiry<TokenKey, JwtUtils.Verified>() {
+                @Override
+                public long expireAfterCreate(TokenKey key, JwtUtils.Verified value, long currentTime) {
+                    long remainingMs = value.expiresAtMillis() - System.currentTimeMillis();
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+                }
+
+                @Override
+                public long expireAfterUpdate(TokenKey key, JwtUtils.Verified value, long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(TokenKey key, JwtUtils.Verified value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+
+    public JwtAuthInterceptor(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verified, "jwt.verified");
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest req, @NonNull HttpServletResponse resp, @NonNull Object handler) {
         String auth = req.getHeader("Authorization");
-        log.info("[AUTH] {} {}", req.getMethod(), req.getRequestURI());
-        log.info("[AUTH] Authorization: {}", auth);
-        if (auth == null || auth.isBlank()) {
+        if (log.isDebugEnabled()) {
+            log.debug("[AUTH] {} {}", req.getMethod(), req.getRequestURI());
+        }
+        String token = extractToken(auth);
+        if (token == null) {
             write401(resp, CommonStatusEnum.UNAUTHORIZED); // 1102
             return false;
         }
 
-        String token = auth.trim().replaceFirst("(?i)^bearer\\s+", "").trim();
-        if (token.startsWith("\"") && token.endsWith("\"") && token.length() > 1) {
-            token = token.substring(1, token.length() - 1);
-        }
-
         try {
-            var jws = JwtUtils.parse(token);
-            req.setAttribute(ATTR_USER_ID, JwtUtils.getUserId(jws));
-            req.setAttribute(ATTR_DEVICE,  JwtUtils.getDeviceId(jws));
+            TokenKey key = TokenKey.of(token);
+            JwtUtils.Verified identity = verified.getIfPresent(key);
+            if (identity == null) {
+                identity = JwtUtils.verify(token);
+                verified.put(key, identity);
+            }
+            req.setAttribute(ATTR_USER_ID, identity.userId());
+            req.setAttribute(ATTR_DEVICE,  identity.deviceId());
             return true;
         } catch (io.jsonwebtoken.ExpiredJwtException e) {
             write401(resp, CommonStatusEnum.TOKEN_EXPIRED);
@@ -48,6 +92,33 @@ public class JwtAuthInterceptor implements HandlerInterceptor {
         }
     }
 
+    /**
+     * Strip an optional case-insensitive "Bearer" scheme and surrounding quotes with index
+     * arithmetic, allocating only the final substring.
+     *
+     * @return the token, or null when the header holds none
+     */
+    static String extractToken(String auth) {
+        if (auth == null) {
+            return null;
+        }
+        int start = 0;
+        int end = auth.length();
+        while (start < end && Character.isWhitespace(auth.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(auth.charAt(end - 1))) end--;
+
+        if (end - start > 6 && auth.regionMatches(true, start, "bearer", 0, 6)
+                && Character.isWhitespace(auth.charAt(start + 6))) {
+            start += 7;
+            while (start < end && Character.isWhitespace(auth.charAt(start))) start++;
+        }
+        if (end - start > 1 && auth.charAt(start) == '"' && auth.charAt(end - 1) == '"') {
+            start++;
+            end--;
+        }
+        return start < end ? auth.substring(start, end) : null;
+    }
+
     private void write401(HttpServletResponse resp, CommonStatusEnum code) {
         try {
             resp.resetBuffer();
@@ -60,4 +131,20 @@ public class JwtAuthInterceptor implements HandlerInterceptor {
             resp.flushBuffer();
         } catch (Exception ignore) {}
     }
+
+    /**
+     * First 128 bits of the token's SHA-256.
+     */
+    private record TokenKey(long hi, long lo) {
+
+        static TokenKey of(String token) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+                ByteBuffer buf = ByteBuffer.wrap(digest);
+                return new TokenKey(buf.getLong(), buf.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.mobile.aura.support;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
@@ -20,6 +21,12 @@ public final class JwtUtils {
 
     private static final SecretKey KEY = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
 
+    /** Parsers are immutable and thread-safe, so one instance serves every request */
+    private static final JwtParser PARSER = Jwts.parser()
+            .verifyWith(KEY)
+            .clockSkewSeconds(120)
+            .build();
+
     public static String createAccess(Long userId, String deviceId, long ttlSec){
         return Jwts.builder()
                 .subject(String.valueOf(userId))
@@ -31,13 +38,25 @@ public final class JwtUtils {
     }
 
     public static Jws<Claims> parse(String token){
-        return Jwts.parser()
-                .verifyWith(KEY)
-                .clockSkewSeconds(120)
-                .build()
-                .parseSignedClaims(token);
+        return PARSER.parseSignedClaims(token);
+    }
+
+    /**
+     * Verify a token and keep only what the request needs.
+     *
+     * @param token compact JWS
+     * @return verified identity with the token's expiry
+     * @throws io.jsonwebtoken.JwtException if the token is invalid or expired
+     */
+    public static Verified verify(String token){
+        Jws<Claims> jws = parse(token);
+        Date exp = jws.getPayload().getExpiration();
+        return new Verified(getUserId(jws), getDeviceId(jws), exp == null ? Long.MAX_VALUE : exp.getTime());
     }
 
     public static Long getUserId(Jws<Claims> jws){ return Long.valueOf(jws.getPayload().getSubject()); }
     public static String getDeviceId(Jws<Claims> jws){ return jws.getPayload().get("deviceId", String.class); }
+
+    /** Identity carried by a verified access token; {@code expiresAtMillis} is its {@code exp} */
+    public record Verified(Long userId, String deviceId, long expiresAtMillis) {}
 }
@@ -0,0 +1,120 @@
+package com.mobile.aura.support;
+
+import com.mobile.aura.config.AsyncExecutorConfig;
+import com.mobile.aura.config.PasswordHashingProperties;
+import com.mobile.aura.constant.CommonStatusEnum;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt encoder that runs every hash on the bounded password pool.
+ * <p>
+ * Hashing is CPU-bound, so a login burst running it on request threads would starve cheap
+ * reads. Here at most {@code threads} hashes run at once. A full queue, or a task that
+ * waited past {@code aura.password.max-queue-wait-ms}, fails fast with SERVER_BUSY so the
+ * client can retry. The submitting thread waits for the result, at most
+ * {@code aura.password.hash-timeout-ms}.
+ * <p>
+ * Meters: {@code aura.password.hash{op}} (hashing time), {@code aura.password.queue.wait},
+ * {@code aura.password.busy{reason}}, plus the pool's {@code executor.*} queue depth.
+ */
+@Component
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private final BCryptPasswordEncoder delegate;
+    private final TaskExecutor executor;
+    private final long maxQueueWaitNanos;
+    private final long hashTimeoutMs;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWait;
+    private final Counter queueFull;
+    private final Counter waitedTooLong;
+    private final Counter dropped;
+    private final Counter timedOut;
+
+    public PooledPasswordEncoder(PasswordHashingProperties props,
+                                 @Qualifier(AsyncExecutorConfig.PASSWORD) TaskExecutor executor,
+                                 MeterRegistry registry) {
+        this.delegate = new BCryptPasswordEncoder(props.getBcryptStrength());
+        this.executor = executor;
+        this.maxQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(props.getMaxQueueWaitMs());
+        this.hashTimeoutMs = props.getHashTimeoutMs();
+
+        this.encodeTimer = registry.timer("aura.password.hash", "op", "encode");
+        this.matchesTimer = registry.timer("aura.password.hash", "op", "matches");
+        this.queueWait = registry.timer("aura.password.queue.wait");
+        this.queueFull = registry.counter("aura.password.busy", "reason", "queue_full");
+        this.waitedTooLong = registry.counter("aura.password.busy", "reason", "queue_wait");
+        this.dropped = registry.counter("aura.password.busy", "reason", "dropped");
+        this.timedOut = registry.counter("aura.password.busy", "reason", "timeout");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    /**
+     * True when the hash was made with a lower work factor than configured. Only parses
+     * the hash prefix, so it runs on the calling thread.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Supplier<T> hashing, Timer timer) {
+        long enqueuedAt = System.nanoTime();
+        CompletableTask<T> result = CompletableTask.of(() -> {
+            long waited = System.nanoTime() - enqueuedAt;
+            queueWait.record(waited, TimeUnit.NANOSECONDS);
+            if (waited > maxQueueWaitNanos) {
+                waitedTooLong.increment();
+                throw new BizException(CommonStatusEnum.SERVER_BUSY);
+            }
+            return timer.record(hashing);
+        });
+        try {
+            executor.execute(result);
+        } catch (TaskRejectedException e) {
+            queueFull.increment();
+            throw new BizException(CommonStatusEnum.SERVER_BUSY);
+        }
+        try {
+            // A task dropped from the queue is cancelled; one stuck past the timeout no longer runs
+            return result.orTimeout(hashTimeoutMs, TimeUnit.MILLISECONDS).join();
+        } catch (CancellationException e) {
+            dropped.increment();
+            throw new BizException(CommonStatusEnum.SERVER_BUSY);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                timedOut.increment();
+                throw new BizException(CommonStatusEnum.SERVER_BUSY);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
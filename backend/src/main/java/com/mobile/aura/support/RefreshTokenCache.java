@@ -0,0 +1,49 @@
+package com.mobile.aura.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mobile.aura.config.RefreshTokenProperties;
+import com.mobile.aura.constant.CommonStatusEnum;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * In-memory state in front of the refresh-token table, keyed by token hash.
+ * <p>
+ * Hashes that failed to rotate are rejected for a short while without touching MySQL, so
+ * replayed or revoked tokens cost nothing. The cache is per instance; on another instance
+ * such a hash simply fails the rotation again.
+ */
+@Component
+public class RefreshTokenCache {
+
+    private final Cache<String, Boolean> invalid;
+
+    public RefreshTokenCache(RefreshTokenProperties props, MeterRegistry registry) {
+        this.invalid = Caffeine.newBuilder()
+                .maximumSize(props.getNegativeCacheSize())
+                .expireAfterWrite(Duration.ofMillis(props.getNegativeTtlMs()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, invalid, "auth.refresh.invalid");
+    }
+
+    /**
+     * Throw REFRESH_INVALID when the hash recently failed to rotate.
+     */
+    public void ensureNotKnownInvalid(String tokenHash) {
+        if (invalid.getIfPresent(tokenHash) != null) {
+            throw new BizException(CommonStatusEnum.REFRESH_INVALID);
+        }
+    }
+
+    /**
+     * Remember a hash that failed to rotate.
+     */
+    public void markInvalid(String tokenHash) {
+        invalid.put(tokenHash, Boolean.TRUE);
+    }
+}
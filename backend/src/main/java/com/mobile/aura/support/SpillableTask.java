@@ -0,0 +1,37 @@
+package com.mobile.aura.support;
+
+/**
+ * A task that may be parked instead of queued when its executor overflows.
+ * Parked tasks are keyed: a newer task with the same key replaces the parked one,
+ * so only idempotent "bring X up to date" work should be spillable.
+ */
+public interface SpillableTask extends Runnable {
+
+    /**
+     * Key identifying what this task updates (e.g. a user ID).
+     *
+     * @return spill key
+     */
+    Object spillKey();
+
+    /**
+     * Wrap a runnable as a spillable task.
+     *
+     * @param key spill key
+     * @param body the work
+     * @return spillable task
+     */
+    static SpillableTask of(Object key, Runnable body) {
+        return new SpillableTask() {
+            @Override
+            public Object spillKey() {
+                return key;
+            }
+
+            @Override
+            public void run() {
+                body.run();
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.mobile.aura.support;
+
+import com.mobile.aura.config.VirtualThreadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread, which happens
+ * when they block inside a {@code synchronized} block or a native frame on Java 21.
+ * <p>
+ * Listens to the JFR {@code jdk.VirtualThreadPinned} event in-process, records the
+ * pinned time in the {@code aura.vthreads.pinned} timer and logs the blocking stack,
+ * so offending code paths show up without attaching a profiler or restarting with
+ * {@code -Djdk.tracePinnedThreads}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = {"spring.threads.virtual.enabled", "aura.virtual-threads.pinning-monitor"}, havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final VirtualThreadProperties props;
+    private final Timer pinned;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadProperties props, MeterRegistry registry) {
+        this.props = props;
+        this.pinned = registry.timer("aura.vthreads.pinned");
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(props.getPinnedThresholdMs()))
+                .withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::report);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold {} ms)", props.getPinnedThresholdMs());
+    }
+
+    @PreDestroy
+    public void stop() {
+        stream.close();
+    }
+
+    private void report(RecordedEvent event) {
+        pinned.record(event.getDuration());
+        String frames = event.getStackTrace() == null ? "<no stack>" : event.getStackTrace().getFrames().stream()
+                .limit(props.getStackDepth())
+                .map(VirtualThreadPinningMonitor::describe)
+                .collect(Collectors.joining("\n\tat ", "\tat ", ""));
+        log.warn("Virtual thread pinned for {} ms\n{}", event.getDuration().toMillis(), frames);
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}